@@ -0,0 +1,68 @@
+package sportbet.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sportbet.domain.AliasIndex;
+
+/**
+ * Alias lookup cost as the number of market type names grows.
+ * Names have a fixed width, so the score should stay flat across typeCount.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AliasIndexScalingBenchmark {
+
+    private static final int PROBES = 64;
+
+    @Param({"8", "100", "1000", "10000"})
+    public int typeCount;
+
+    private AliasIndex index;
+    private String[] probes;
+
+    @Setup
+    public void setUp() {
+        String[] names = new String[typeCount];
+        int[] values = new int[typeCount];
+        for (int i = 0; i < typeCount; i++) {
+            names[i] = name(i);
+            values[i] = i;
+        }
+        index = new AliasIndex(names, values);
+
+        probes = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = name((i * 7919) % typeCount).toUpperCase();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public void get(Blackhole bh) {
+        for (String probe : probes) {
+            bh.consume(index.get(probe));
+        }
+    }
+
+    private static String name(int i) {
+        return String.format("market type %05d", i);
+    }
+}
@@ -0,0 +1,77 @@
+package sportbet.bench;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH JSON result files (-rf json) benchmark by benchmark.
+ * 
+ * Prints the primary score of each run and the change in percent, plus the
+ * allocated bytes per operation when both runs were made with -prof gc.
+ * 
+ * Usage: java -cp target/benchmarks.jar sportbet.bench.CompareResults base.json new.json
+ */
+public final class CompareResults {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    private CompareResults() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: CompareResults <base.json> <new.json>");
+            System.exit(1);
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> base = index(mapper.readTree(Paths.get(args[0]).toFile()));
+        Map<String, JsonNode> current = index(mapper.readTree(Paths.get(args[1]).toFile()));
+
+        System.out.printf("%-70s %14s %14s %9s %12s %12s%n",
+                "Benchmark", "Base", "New", "Change", "Base B/op", "New B/op");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode before = base.get(entry.getKey());
+            String unit = now.path("primaryMetric").path("scoreUnit").asText();
+            double nowScore = now.path("primaryMetric").path("score").asDouble();
+
+            String beforeText = "-";
+            String change = "-";
+            if (before != null) {
+                double beforeScore = before.path("primaryMetric").path("score").asDouble();
+                beforeText = String.format("%.3f", beforeScore);
+                change = String.format("%+.1f%%", (nowScore - beforeScore) / beforeScore * 100.0);
+            }
+
+            System.out.printf("%-70s %14s %14s %9s %12s %12s%n",
+                    entry.getKey() + " (" + unit + ")",
+                    beforeText,
+                    String.format("%.3f", nowScore),
+                    change,
+                    allocation(before),
+                    allocation(now));
+        }
+    }
+
+    // Key: benchmark name plus its @Param values
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText().replace("sportbet.bench.", ""));
+            result.path("params").fields().forEachRemaining(p ->
+                    key.append(' ').append(p.getKey()).append('=').append(p.getValue().asText()));
+            byKey.put(key.toString(), result);
+        }
+        return byKey;
+    }
+
+    private static String allocation(JsonNode result) {
+        if (result == null) return "-";
+        JsonNode alloc = result.path("secondaryMetrics").path(ALLOC_NORM);
+        return alloc.isMissingNode() ? "-" : String.format("%.1f", alloc.path("score").asDouble());
+    }
+}
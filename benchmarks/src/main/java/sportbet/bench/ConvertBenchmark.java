@@ -0,0 +1,75 @@
+package sportbet.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sportbet.core.MarketConverter;
+import sportbet.model.RawMarket;
+
+/**
+ * Full MarketConverter.convert cost per market, on known market types
+ * and on the feed mix that includes ~10% unknown types, with rejects
+ * thrown (convert) or returned (tryConvert).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConvertBenchmark {
+
+    private static final int MARKETS = 1000;
+
+    private MarketConverter converter;
+    private List<RawMarket> known;
+    private List<RawMarket> feed;
+
+    @Setup
+    public void setUp() {
+        converter = new MarketConverter();
+        known = MarketDatasets.knownMarkets(MARKETS);
+        feed = MarketDatasets.markets(MARKETS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MARKETS)
+    public void knownTypes(Blackhole bh) {
+        for (RawMarket market : known) {
+            bh.consume(converter.convert(market));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MARKETS)
+    public void feedMix(Blackhole bh) {
+        for (RawMarket market : feed) {
+            try {
+                bh.consume(converter.convert(market));
+            } catch (RuntimeException e) {
+                bh.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MARKETS)
+    public void feedMixResult(Blackhole bh) {
+        for (RawMarket market : feed) {
+            bh.consume(converter.tryConvert(market));
+        }
+    }
+}
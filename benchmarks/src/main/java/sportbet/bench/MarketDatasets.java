@@ -0,0 +1,157 @@
+package sportbet.bench;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import sportbet.model.RawMarket;
+import sportbet.model.RawSelection;
+
+/**
+ * Deterministic synthetic market feeds for the benchmarks.
+ * 
+ * Markets cycle through every supported type plus ~10% unknown types, with
+ * random event ids, specifiers and odds. The same size and seed always produce
+ * the same data, so results from different builds are comparable.
+ */
+public final class MarketDatasets {
+
+    public static final Path DATASET_DIR = Paths.get(System.getProperty("bench.datasets", "target/datasets"));
+
+    private static final long SEED = 20240601L;
+    private static final String[] TOTALS = {"0.5", "1.5", "2.5", "3", "3.5", "4.5"};
+    private static final String[] HANDICAPS = {"0.5", "1", "1.5", "2", "2.5"};
+
+    private MarketDatasets() {}
+
+    /**
+     * Returns the JSON dataset with the given number of markets, generating it on first use.
+     */
+    public static Path file(int markets) {
+        Path file = DATASET_DIR.resolve("markets_" + markets + ".json");
+        if (Files.exists(file)) {
+            return file;
+        }
+        try {
+            Files.createDirectories(DATASET_DIR);
+            Path temp = DATASET_DIR.resolve(file.getFileName() + ".tmp");
+            JsonFactory factory = new JsonFactory();
+            try (JsonGenerator gen = factory.createGenerator(temp.toFile(), JsonEncoding.UTF8)) {
+                SplittableRandom random = new SplittableRandom(SEED);
+                gen.writeStartArray();
+                for (int i = 0; i < markets; i++) {
+                    RawMarket market = market(random, markets);
+                    gen.writeStartObject();
+                    gen.writeStringField("name", market.getName());
+                    gen.writeStringField("event_id", market.getEvent_id());
+                    gen.writeArrayFieldStart("selections");
+                    for (RawSelection selection : market.getSelections()) {
+                        gen.writeStartObject();
+                        gen.writeStringField("name", selection.getName());
+                        gen.writeNumberField("odds", selection.getOdds());
+                        gen.writeEndObject();
+                    }
+                    gen.writeEndArray();
+                    gen.writeEndObject();
+                    gen.writeRaw('\n');
+                }
+                gen.writeEndArray();
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to generate dataset " + file, e);
+        }
+    }
+
+    /**
+     * Returns the first n markets of the dataset in memory.
+     */
+    public static List<RawMarket> markets(int n) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<RawMarket> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(market(random, n));
+        }
+        return list;
+    }
+
+    /**
+     * Returns the first n markets of the dataset, leaving out unknown market types.
+     */
+    public static List<RawMarket> knownMarkets(int n) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<RawMarket> list = new ArrayList<>(n);
+        while (list.size() < n) {
+            RawMarket market = market(random, n);
+            if (!market.getName().startsWith("corners")) {
+                list.add(market);
+            }
+        }
+        return list;
+    }
+
+    private static RawMarket market(SplittableRandom random, int total) {
+        String eventId = String.valueOf(1_000_000 + random.nextInt(Math.max(1, total / 5)));
+        List<RawSelection> selections = new ArrayList<>(3);
+        String name;
+        switch (random.nextInt(9)) {
+            case 0:
+                name = "1x2";
+                selections.add(new RawSelection("Team A", odds(random)));
+                selections.add(new RawSelection("draw", odds(random)));
+                selections.add(new RawSelection("Team B", odds(random)));
+                break;
+            case 1:
+            case 2:
+                name = random.nextBoolean() ? "Total" : "1st half - total";
+                String line = TOTALS[random.nextInt(TOTALS.length)];
+                selections.add(new RawSelection("over " + line, odds(random)));
+                selections.add(new RawSelection("under " + line, odds(random)));
+                break;
+            case 3:
+            case 4:
+            case 5:
+                String[] handicaps = {"Handicap", "1st half - handicap", "2nd half - handicap"};
+                name = handicaps[random.nextInt(handicaps.length)];
+                String hcp = HANDICAPS[random.nextInt(HANDICAPS.length)];
+                boolean plus = random.nextBoolean();
+                selections.add(new RawSelection("Team A " + (plus ? "+" : "-") + hcp, odds(random)));
+                selections.add(new RawSelection("Team B " + (plus ? "-" : "+") + hcp, odds(random)));
+                break;
+            case 6:
+            case 7:
+                name = "Both teams to score";
+                selections.add(new RawSelection("Yes", odds(random)));
+                selections.add(new RawSelection("No", odds(random)));
+                break;
+            default:
+                name = "corners total";
+                selections.add(new RawSelection("over 9.5", odds(random)));
+                selections.add(new RawSelection("under 9.5", odds(random)));
+                break;
+        }
+        return new RawMarket(name, eventId, selections);
+    }
+
+    private static double odds(SplittableRandom random) {
+        return Math.round(random.nextDouble(1.01, 15.0) * 100) / 100.0;
+    }
+
+    // Generates dataset files: MarketDatasets 1000 1000000 10000000
+    public static void main(String[] args) {
+        for (String arg : args) {
+            System.out.println(file(Integer.parseInt(arg)).toAbsolutePath());
+        }
+    }
+}
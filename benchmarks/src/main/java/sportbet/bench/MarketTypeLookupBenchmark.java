@@ -0,0 +1,47 @@
+package sportbet.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sportbet.domain.MarketType;
+
+/**
+ * Market type resolution for the names seen in the feed, including an unknown one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarketTypeLookupBenchmark {
+
+    private static final String[] FEED_NAMES = {
+        "1x2", "Total", "1st half - total", "Handicap", "1st half - handicap",
+        "2nd half - handicap", "Both teams to score", "corners total"
+    };
+
+    @Benchmark
+    public void fromName(Blackhole bh) {
+        for (String name : FEED_NAMES) {
+            bh.consume(MarketType.fromName(name));
+        }
+    }
+
+    @Benchmark
+    public void lookup(Blackhole bh) {
+        for (String name : FEED_NAMES) {
+            bh.consume(MarketType.lookup(name));
+        }
+    }
+}
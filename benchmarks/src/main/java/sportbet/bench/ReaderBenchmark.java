@@ -0,0 +1,91 @@
+package sportbet.bench;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.io.JacksonListMarketReader;
+import sportbet.io.JacksonStreamingMarketReader;
+import sportbet.io.MarketCursor;
+import sportbet.io.ParallelMarketReader;
+
+/**
+ * Reader throughput: time to parse a whole dataset file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReaderBenchmark {
+
+    // 1000000 and 10000000 via -p markets=...
+    @Param({"1000"})
+    public int markets;
+
+    private Path file;
+    private JacksonStreamingMarketReader streamingReader;
+    private JacksonStreamingMarketReader mappedReader;
+    private ParallelMarketReader parallelReader;
+    private JacksonListMarketReader listReader;
+
+    @Setup
+    public void setUp() {
+        file = MarketDatasets.file(markets);
+        streamingReader = new JacksonStreamingMarketReader();
+        mappedReader = new JacksonStreamingMarketReader(
+                new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false), true);
+        parallelReader = new ParallelMarketReader(
+                new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false),
+                Runtime.getRuntime().availableProcessors());
+        listReader = new JacksonListMarketReader();
+    }
+
+    @Benchmark
+    public void streaming(Blackhole bh) {
+        try (MarketCursor cursor = streamingReader.open(file)) {
+            while (cursor.hasNext()) {
+                bh.consume(cursor.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void streamingMapped(Blackhole bh) {
+        try (MarketCursor cursor = mappedReader.open(file)) {
+            while (cursor.hasNext()) {
+                bh.consume(cursor.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void parallel(Blackhole bh) {
+        try (MarketCursor cursor = parallelReader.open(file)) {
+            while (cursor.hasNext()) {
+                bh.consume(cursor.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public Object list() {
+        return listReader.read(file);
+    }
+}
@@ -0,0 +1,46 @@
+package sportbet.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sportbet.normalize.SelectionNameCleaner;
+
+/**
+ * Selection name cleaning: single-pass scan against the regex path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionCleaningBenchmark {
+
+    private final String[] names = {
+        "Team A", "draw", "Team B", "over 2.5", "under 2.5", "Team A +1.5", "Team B -1.5", "Yes", "No"
+    };
+
+    @Benchmark
+    public void scan(Blackhole bh) {
+        for (String name : names) {
+            bh.consume(SelectionNameCleaner.clean(name));
+        }
+    }
+
+    @Benchmark
+    public void regex(Blackhole bh) {
+        for (String name : names) {
+            bh.consume(SelectionNameCleaner.cleanWithRegex(name, true, true, true));
+        }
+    }
+}
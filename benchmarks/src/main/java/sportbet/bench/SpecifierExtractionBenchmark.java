@@ -0,0 +1,85 @@
+package sportbet.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sportbet.normalize.MarketNormalizer;
+import sportbet.normalize.SelectionNameCleaner;
+import sportbet.normalize.SelectionToken;
+
+/**
+ * Specifier extraction from TOTAL and HCP selection names: the regex extraction
+ * alone, regex extraction plus cleaning (the converter before tokenizing), and
+ * the fused tokenizer that does both in one scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecifierExtractionBenchmark {
+
+    private final MarketNormalizer normalizer = new MarketNormalizer();
+    private final SelectionToken token = new SelectionToken();
+    private final String[] totals = {"over 2.5", "under 2.5", "over 3", "under 0.5"};
+    private final String[] handicaps = {"Team A +1.5", "Team B -1.5", "Team A -0.5", "Team B +2"};
+
+    @Benchmark
+    public void total(Blackhole bh) {
+        for (String name : totals) {
+            bh.consume(normalizer.extractTotalValue(name));
+        }
+    }
+
+    @Benchmark
+    public void handicap(Blackhole bh) {
+        for (String name : handicaps) {
+            bh.consume(normalizer.extractHandicapValue(name));
+        }
+    }
+
+    @Benchmark
+    public void handicapAndClean(Blackhole bh) {
+        for (String name : handicaps) {
+            bh.consume(normalizer.extractHandicapValue(name));
+            bh.consume(SelectionNameCleaner.clean(name));
+        }
+    }
+
+    @Benchmark
+    public void handicapTokenized(Blackhole bh) {
+        for (String name : handicaps) {
+            SelectionNameCleaner.tokenize(name, token);
+            bh.consume(token.isZero(true) ? null : token.number(true));
+            bh.consume(token.length());
+        }
+    }
+
+    @Benchmark
+    public void totalAndClean(Blackhole bh) {
+        for (String name : totals) {
+            bh.consume(normalizer.extractTotalValue(name));
+            bh.consume(SelectionNameCleaner.clean(name));
+        }
+    }
+
+    @Benchmark
+    public void totalTokenized(Blackhole bh) {
+        for (String name : totals) {
+            SelectionNameCleaner.tokenize(name, token);
+            bh.consume(token.isZero(false) ? null : token.number(false));
+            bh.consume(token.length());
+        }
+    }
+}
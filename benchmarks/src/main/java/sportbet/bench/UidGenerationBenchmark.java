@@ -0,0 +1,46 @@
+package sportbet.bench;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sportbet.uid.UidGenerator;
+
+/**
+ * Market and selection UID generation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UidGenerationBenchmark {
+
+    private final Map<String, String> specifiers = Map.of("total", "2.5");
+    private final String eventId = "1234567";
+
+    @Benchmark
+    public String marketUid() {
+        return UidGenerator.generateMarketUid(new UidGenerator.MarketUidParams(eventId, "18", specifiers));
+    }
+
+    @Benchmark
+    public String marketUidNoSpecifier() {
+        return UidGenerator.generateMarketUid(new UidGenerator.MarketUidParams(eventId, "1", Map.of()));
+    }
+
+    @Benchmark
+    public String selectionUid() {
+        return UidGenerator.generateSelectionUid(new UidGenerator.SelectionUidParams("1234567_18_2.5", 12));
+    }
+}
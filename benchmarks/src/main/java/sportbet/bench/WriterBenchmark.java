@@ -0,0 +1,77 @@
+package sportbet.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sportbet.core.MarketConverter;
+import sportbet.io.MarketWriter;
+import sportbet.io.OutputFormat;
+import sportbet.model.ParsedMarket;
+
+/**
+ * Output serialization: time to write a file of converted markets in each output format.
+ * A pool of 1000 converted markets is written repeatedly, so large sizes
+ * measure the writer rather than the heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriterBenchmark {
+
+    // 1000000 and 10000000 via -p markets=...
+    @Param({"1000"})
+    public int markets;
+
+    @Param({"JSON", "JSON_COMPACT", "SMILE", "COLUMNAR"})
+    public OutputFormat format;
+
+    private MarketWriter.Factory writers;
+    private ParsedMarket[] pool;
+    private Path target;
+
+    @Setup
+    public void setUp() throws IOException {
+        writers = format.writerFactory();
+
+        MarketConverter converter = new MarketConverter();
+        List<ParsedMarket> converted = MarketDatasets.knownMarkets(1000).stream().map(converter::convert).toList();
+        pool = converted.toArray(new ParsedMarket[0]);
+
+        Files.createDirectories(MarketDatasets.DATASET_DIR);
+        target = MarketDatasets.DATASET_DIR.resolve("writer_benchmark_output.json");
+    }
+
+    @Benchmark
+    public void streaming() {
+        try (MarketWriter writer = writers.open(target)) {
+            for (int i = 0; i < markets; i++) {
+                writer.write(pool[i % pool.length]);
+            }
+            writer.commit();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(target);
+    }
+}
@@ -0,0 +1,154 @@
+package sportbet.app;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import sportbet.io.FilePathResolver;
+import sportbet.io.OutputFormat;
+
+// Converts many input files in one process, at most N files at a time, each to its resolveOutputPath target
+public class BatchConverter {
+
+    private final MarketFileConverter fileConverter;
+    private final int parallelFiles;
+    private final OutputFormat format;
+
+    public BatchConverter(MarketFileConverter fileConverter, int parallelFiles) {
+        this(fileConverter, parallelFiles, OutputFormat.JSON);
+    }
+
+    public BatchConverter(MarketFileConverter fileConverter, int parallelFiles, OutputFormat format) {
+        if (parallelFiles < 1) {
+            throw new IllegalArgumentException("parallelFiles must be at least 1: " + parallelFiles);
+        }
+        this.fileConverter = fileConverter;
+        this.parallelFiles = parallelFiles;
+        this.format = format;
+    }
+
+    // Converts every file and prints one line per file as it finishes; results follow input order.
+    // Throws IllegalArgumentException before converting anything if two inputs share an output file
+    public List<FileResult> convertAll(List<Path> inputs) throws InterruptedException {
+        List<Path> outputs = outputPaths(inputs);
+        int threads = Math.min(parallelFiles, inputs.size());
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "batch-file-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<FileResult>> futures = new ArrayList<>(inputs.size());
+            for (int i = 0; i < inputs.size(); i++) {
+                Path input = inputs.get(i);
+                Path output = outputs.get(i);
+                futures.add(executor.submit(() -> convertFile(input, output)));
+            }
+            List<FileResult> results = new ArrayList<>(inputs.size());
+            for (Future<FileResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    // convertFile catches everything it can report; anything else is a bug
+                    throw new IllegalStateException("Batch worker failed", e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Output file of every input; files with the same name from different directories, or one file
+    // listed twice, would otherwise write the same output and temp file at the same time
+    private List<Path> outputPaths(List<Path> inputs) {
+        List<Path> outputs = new ArrayList<>(inputs.size());
+        Map<Path, Path> claimed = new HashMap<>();
+        for (Path input : inputs) {
+            Path output = FilePathResolver.resolveOutputPath(input.toString(), format);
+            Path previous = claimed.putIfAbsent(output, input);
+            if (previous != null) {
+                throw new IllegalArgumentException("Input files " + previous + " and " + input
+                        + " would both be written to " + output + "; rename one or convert them in separate runs");
+            }
+            outputs.add(output);
+        }
+        return outputs;
+    }
+
+    private FileResult convertFile(Path input, Path output) {
+        long start = System.nanoTime();
+        FileResult result;
+        try {
+            MarketFileConverter.Summary summary = fileConverter.convert(input, output);
+            result = FileResult.success(input, output, summary, System.nanoTime() - start);
+            System.out.println("✅ " + input + ": converted " + summary.getConverted() + " out of "
+                    + summary.getTotal() + " markets -> " + output);
+        } catch (Exception e) {
+            result = FileResult.failure(input, e.getMessage(), System.nanoTime() - start);
+            System.out.println("❌ " + input + ": " + e.getMessage());
+        }
+        return result;
+    }
+
+    // Outcome of one file in a batch
+    public static final class FileResult {
+        private final Path input;
+        private final Path output;
+        private final MarketFileConverter.Summary summary;
+        private final String errorMessage;
+        private final long elapsedNanos;
+
+        private FileResult(Path input, Path output, MarketFileConverter.Summary summary,
+                           String errorMessage, long elapsedNanos) {
+            this.input = input;
+            this.output = output;
+            this.summary = summary;
+            this.errorMessage = errorMessage;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        static FileResult success(Path input, Path output, MarketFileConverter.Summary summary, long elapsedNanos) {
+            return new FileResult(input, output, summary, null, elapsedNanos);
+        }
+
+        static FileResult failure(Path input, String errorMessage, long elapsedNanos) {
+            return new FileResult(input, null, null, errorMessage, elapsedNanos);
+        }
+
+        public boolean isSuccess() {
+            return summary != null;
+        }
+
+        public Path getInput() {
+            return input;
+        }
+
+        // null when the file failed
+        public Path getOutput() {
+            return output;
+        }
+
+        // null when the file failed
+        public MarketFileConverter.Summary getSummary() {
+            return summary;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
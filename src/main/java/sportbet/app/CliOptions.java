@@ -0,0 +1,303 @@
+package sportbet.app;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import sportbet.domain.UnmappedMarketNames;
+import sportbet.io.OutputFormat;
+import sportbet.validate.ValidationMode;
+
+// Command line options: <filename|directory|glob>... [--threads N] [--parallel-files N] [--uid-cache N] [--delta STATE_FILE]
+//                       [--quiet] [--metrics-interval SECONDS] [--echo] [--mmap] [--parse-threads N]
+//                       [--format json|json-compact|smile|columnar] [--pipeline] [--unmapped-names N]
+//                       [--validate off|lenient|strict] [--numeric-event-ids] [--group-by-event]
+// or --serve PORT [--warmup N] [--uid-cache N] for the resident HTTP service
+public class CliOptions {
+
+    private final List<String> inputFilenames = new ArrayList<>();
+    private int threads = 1;
+    private int parallelFiles = Runtime.getRuntime().availableProcessors();
+    private int uidCacheSize;
+    private int unmappedNames = UnmappedMarketNames.DEFAULT_MAX_NAMES;
+    private ValidationMode validation = ValidationMode.OFF;
+    private boolean numericEventIds;
+    private boolean groupByEvent;
+    private String deltaStateFile;
+    private boolean quiet;
+    private int metricsIntervalSeconds = DEFAULT_METRICS_INTERVAL_SECONDS;
+    private boolean echo;
+    private boolean memoryMapped;
+    private int parseThreads = 1;
+    private boolean pipeline;
+    private OutputFormat format = OutputFormat.JSON;
+    private int servePort = -1;
+    private int warmUpIterations = DEFAULT_WARM_UP_ITERATIONS;
+
+    static final int DEFAULT_WARM_UP_ITERATIONS = 5_000;
+    static final int DEFAULT_METRICS_INTERVAL_SECONDS = 5;
+
+    private CliOptions() {}
+
+    // Parses arguments; throws IllegalArgumentException with a user-facing message
+    public static CliOptions parse(String[] args) {
+        CliOptions options = new CliOptions();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                options.inputFilenames.add(arg);
+                continue;
+            }
+
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg : arg.substring(0, eq);
+            switch (name) {
+                case "--threads": {
+                    String value = eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1);
+                    int threads = parseNonNegative(name, value);
+                    options.threads = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+                    break;
+                }
+                case "--parallel-files": {
+                    String value = eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1);
+                    int files = parseNonNegative(name, value);
+                    options.parallelFiles = files == 0 ? Runtime.getRuntime().availableProcessors() : files;
+                    break;
+                }
+                case "--uid-cache": {
+                    String value = eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1);
+                    options.uidCacheSize = parseNonNegative(name, value);
+                    break;
+                }
+                case "--unmapped-names": {
+                    String value = eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1);
+                    options.unmappedNames = parseNonNegative(name, value);
+                    break;
+                }
+                case "--validate":
+                    options.validation = ValidationMode.fromCliName(eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1));
+                    break;
+                case "--numeric-event-ids":
+                    options.numericEventIds = true;
+                    break;
+                case "--group-by-event":
+                    options.groupByEvent = true;
+                    break;
+                case "--delta":
+                    options.deltaStateFile = eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1);
+                    break;
+                case "--quiet":
+                    options.quiet = true;
+                    break;
+                case "--metrics-interval": {
+                    String value = eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1);
+                    options.metricsIntervalSeconds = parseNonNegative(name, value);
+                    break;
+                }
+                case "--echo":
+                    options.echo = true;
+                    break;
+                case "--mmap":
+                    options.memoryMapped = true;
+                    break;
+                case "--parse-threads": {
+                    String value = eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1);
+                    int parseThreads = parseNonNegative(name, value);
+                    options.parseThreads = parseThreads == 0 ? Runtime.getRuntime().availableProcessors() : parseThreads;
+                    break;
+                }
+                case "--pipeline":
+                    options.pipeline = true;
+                    break;
+                case "--format":
+                    options.format = OutputFormat.fromCliName(eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1));
+                    break;
+                case "--serve": {
+                    String value = eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1);
+                    int port = parseNonNegative(name, value);
+                    if (port > 65535) {
+                        throw new IllegalArgumentException(name + " must be a port number: " + value);
+                    }
+                    options.servePort = port;
+                    break;
+                }
+                case "--warmup": {
+                    String value = eq < 0 ? nextValue(args, ++i, name) : arg.substring(eq + 1);
+                    options.warmUpIterations = parseNonNegative(name, value);
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        if (options.servePort >= 0) {
+            if (!options.inputFilenames.isEmpty()) {
+                throw new IllegalArgumentException("--serve does not take input files");
+            }
+            return options;
+        }
+        if (options.inputFilenames.isEmpty()) {
+            throw new IllegalArgumentException("Missing input filename");
+        }
+        if (options.groupByEvent && options.format.isBinary()) {
+            throw new IllegalArgumentException("--group-by-event cannot be combined with --format "
+                    + options.format.getCliName());
+        }
+        // Delta tombstones only carry a market UID, so there is no event to group a removed market under
+        if (options.groupByEvent && options.deltaStateFile != null) {
+            throw new IllegalArgumentException("--group-by-event cannot be combined with --delta");
+        }
+        return options;
+    }
+
+    public static void printUsage() {
+        System.out.println("Usage: java -jar market-conversion.jar <filename> [options]");
+        System.out.println("       java -jar market-conversion.jar <directory|glob|filename...> [options]");
+        System.out.println("       java -jar market-conversion.jar --serve PORT [--warmup N] [--uid-cache N]");
+        System.out.println("  The file will be searched in input_files directory");
+        System.out.println("  Output will be saved in output_files directory with '_output' suffix");
+        System.out.println("  A directory, a glob such as 'input_files/*.json' or several filenames");
+        System.out.println("  are converted in one batch with a single summary at the end");
+        System.out.println("Options:");
+        System.out.println("  --threads N         convert markets on N worker threads (default 1, 0 = all cores)");
+        System.out.println("  --parallel-files N  batch mode: convert up to N files at once (default all cores)");
+        System.out.println("  --uid-cache N       reuse UIDs of the N most recent (event, type, specifier) tuples (default off)");
+        System.out.println("  --unmapped-names N  remember up to N unknown market names to reject repeats quickly and");
+        System.out.println("                      list the most frequent ones in the summary (default "
+                + UnmappedMarketNames.DEFAULT_MAX_NAMES + ", 0 = off)");
+        System.out.println("  --validate MODE     check markets while converting: off (default), lenient or strict;");
+        System.out.println("                      invalid markets are rejected with VALIDATION_ERROR");
+        System.out.println("  --numeric-event-ids parse event IDs once as numbers for UIDs and the UID cache, and count");
+        System.out.println("                      converted markets per event; other IDs take the usual string path");
+        System.out.println("  --delta FILE        only write markets that are new, changed or removed since the run");
+        System.out.println("                      that last saved FILE; odds state is kept in FILE between runs");
+        System.out.println("  --quiet             no per-market output; report counters, rates and stage latencies instead");
+        System.out.println("  --metrics-interval S");
+        System.out.println("                      with --quiet, print progress every S seconds (default "
+                + DEFAULT_METRICS_INTERVAL_SECONDS + ", 0 = only at the end)");
+        System.out.println("  --echo              print the output JSON to the console after converting");
+        System.out.println("  --mmap              read input files through memory-mapped chunks instead of read() calls");
+        System.out.println("  --parse-threads N   parse each input file on N threads (default 1, 0 = all cores)");
+        System.out.println("  --pipeline          read, convert and write concurrently through bounded queues;");
+        System.out.println("                      with --quiet, stage throughput and queue depths are reported");
+        System.out.println("  --format F          output format: json (indented, default), json-compact, smile (binary)");
+        System.out.println("                      or columnar (selection UID/type/odds columns, memory-mappable)");
+        System.out.println("  --group-by-event    write markets grouped by event ID, plus an event -> byte range index");
+        System.out.println("                      in <output>.idx (json and json-compact only)");
+        System.out.println("  --serve PORT        run as a local HTTP service: POST /convert with a JSON array of markets");
+        System.out.println("  --warmup N          server mode: convert a built-in batch N times before listening (default "
+                + DEFAULT_WARM_UP_ITERATIONS + ")");
+    }
+
+    // Per-market console lines are replaced by metrics
+    public boolean isQuiet() {
+        return quiet;
+    }
+
+    public int getMetricsIntervalSeconds() {
+        return metricsIntervalSeconds;
+    }
+
+    // Copy the output file to the console at the end (single-file mode)
+    public boolean isEcho() {
+        return echo;
+    }
+
+    // Read inputs through MappedFileInputStream
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
+    // Threads parsing one input file; 1 uses the sequential streaming reader
+    public int getParseThreads() {
+        return parseThreads;
+    }
+
+    // Overlap reading, converting and writing instead of alternating windows
+    public boolean isPipeline() {
+        return pipeline;
+    }
+
+    public OutputFormat getFormat() {
+        return format;
+    }
+
+    // Port for server mode, -1 when not serving
+    public int getServePort() {
+        return servePort;
+    }
+
+    public boolean isServe() {
+        return servePort >= 0;
+    }
+
+    public int getWarmUpIterations() {
+        return warmUpIterations;
+    }
+
+    // First input argument; the only one outside batch mode
+    public String getInputFilename() {
+        return inputFilenames.get(0);
+    }
+
+    public List<String> getInputFilenames() {
+        return Collections.unmodifiableList(inputFilenames);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getParallelFiles() {
+        return parallelFiles;
+    }
+
+    // 0 when the UID cache is disabled
+    public int getUidCacheSize() {
+        return uidCacheSize;
+    }
+
+    // Capacity of the unmapped market name cache; 0 when disabled
+    public int getUnmappedNames() {
+        return unmappedNames;
+    }
+
+    public ValidationMode getValidation() {
+        return validation;
+    }
+
+    public boolean isNumericEventIds() {
+        return numericEventIds;
+    }
+
+    public boolean isGroupByEvent() {
+        return groupByEvent;
+    }
+
+    // null when delta mode is off
+    public String getDeltaStateFile() {
+        return deltaStateFile;
+    }
+
+    private static String nextValue(String[] args, int index, String name) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + name);
+        }
+        return args[index];
+    }
+
+    private static int parseNonNegative(String name, String value) {
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number: " + value);
+        }
+        if (number < 0) {
+            throw new IllegalArgumentException(name + " must not be negative: " + value);
+        }
+        return number;
+    }
+}
@@ -1,28 +1,53 @@
 package sportbet.app;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 
+import sportbet.core.ConversionResult;
+import sportbet.core.ConverterOptions;
 import sportbet.core.MarketConverter;
+import sportbet.core.ParallelMarketConverter;
+import sportbet.delta.OddsDeltaTracker;
+import sportbet.domain.UnmappedMarketNames;
+import sportbet.errors.ErrorCode;
 import sportbet.errors.MissingFileException;
+import sportbet.io.EventIndex;
 import sportbet.io.FilePathResolver;
-import sportbet.io.JacksonListMarketReader;
-import sportbet.model.ParsedMarket;
+import sportbet.io.JacksonStreamingMarketReader;
+import sportbet.io.JsonMarketStreamReader;
+import sportbet.io.MarketWriter;
+import sportbet.io.ParallelMarketReader;
+import sportbet.metrics.ConversionMetrics;
+import sportbet.metrics.MetricsReporter;
 import sportbet.model.RawMarket;
+import sportbet.server.ConversionServer;
+import sportbet.server.ConversionService;
+import sportbet.uid.UidCache;
 
 // Main application entry point for market conversion
 public class Main {
+
+    private static final int TOP_UNMAPPED_NAMES = 10;
+
     public static void main(String[] args) {
-        if (args.length < 1) {
-            System.out.println("Usage: java -jar market-conversion.jar <filename>");
-            System.out.println("  The file will be searched in input_files directory");
-            System.out.println("  Output will be saved in output_files directory with '_output' suffix");
+        CliOptions options;
+        try {
+            options = CliOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            CliOptions.printUsage();
             System.exit(1);
+            return;
         }
 
         try {
@@ -30,56 +55,103 @@ public class Main {
             FilePathResolver.ensureOutputDirectoryExists(); 
 
             
+            if (options.isServe()) {
+                runServer(options);
+                return;
+            }
+            if (isBatch(options)) {
+                System.exit(runBatch(options));
+                return;
+            }
+
             // Resolve input and output paths
-            String inputFilename = args[0];
+            String inputFilename = options.getInputFilename();
             Path inputPath = FilePathResolver.resolveInputPath(inputFilename);
-            Path outputPath = FilePathResolver.resolveOutputPath(inputFilename);
+            Path outputPath = FilePathResolver.resolveOutputPath(inputFilename, options.getFormat());
             
             System.out.println("=== Market Conversion ===");
             System.out.println("Input file: " + inputPath.toAbsolutePath());
             System.out.println("Output file: " + outputPath.toAbsolutePath());
             
 
-            // Read input file
-            JacksonListMarketReader reader = new JacksonListMarketReader();
-            List<RawMarket> rawMarkets = reader.read(inputPath);
-            
-            
+            // Stream input, convert and write one market at a time
+            ConverterOptions converterOptions = converterOptions(options);
+            MarketConverter converter = new MarketConverter(converterOptions);
+            ObjectMapper mapper = createMapper();
+            MarketWriter.Factory writers = writerFactory(options);
 
             System.out.println("=== Market Conversion ===");
-            System.out.println("Loaded " + rawMarkets.size() + " markets:");
-            
-            // Convert markets
-            MarketConverter converter = new MarketConverter();
-            List<ParsedMarket> parsedMarkets = new ArrayList<>();
-            
-            for (int i = 0; i < rawMarkets.size(); i++) {
-                RawMarket rawMarket = rawMarkets.get(i);
-                System.out.println("Converting market #" + (i + 1) + ": " + rawMarket.getName());
-                
-                try {
-                    ParsedMarket parsed = converter.convert(rawMarket);
-                    parsedMarkets.add(parsed);
-                    System.out.println("✅ Successfully converted - " + parsed.getMarket_uid());
-                } catch (Exception e) {
-                    System.out.println("❌ Conversion error: " + e.getMessage());
+            System.out.println("Streaming markets:");
+
+            // Delta mode: only markets whose odds moved since the last run are written
+            OddsDeltaTracker delta = null;
+            Path deltaStatePath = null;
+            if (options.getDeltaStateFile() != null) {
+                if (!options.getFormat().isMarketComplete()) {
+                    System.out.println("--delta cannot be combined with --format " + options.getFormat().getCliName());
+                    System.exit(1);
+                    return;
                 }
+                deltaStatePath = Paths.get(options.getDeltaStateFile());
+                delta = OddsDeltaTracker.load(deltaStatePath);
+                delta.beginSnapshot();
             }
-            
-            // Write output and display results
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.enable(SerializationFeature.INDENT_OUTPUT);
-            
-            mapper.writeValue(outputPath.toFile(), parsedMarkets);
+
+            // Quiet mode swaps per-market console lines for counters and timers
+            ConversionMetrics metrics = options.isQuiet() ? new ConversionMetrics() : null;
+            MarketFileConverter.Listener listener = options.isQuiet()
+                    ? (number, raw, result) -> {}
+                    : Main::printMarket;
+
+            MarketFileConverter.Summary summary;
+            MetricsReporter reporter = metricsReporter(options, metrics);
+            try (ParallelMarketConverter parallel = new ParallelMarketConverter(converter, options.getThreads(),
+                         ParallelMarketConverter.DEFAULT_BATCH_SIZE, metrics)) {
+                summary = fileConverter(options, writers, createReader(options, mapper), parallel, metrics)
+                        .convert(inputPath, outputPath, delta, listener);
+            } finally {
+                reporter.close();
+            }
+            if (delta != null) {
+                delta.save(deltaStatePath);
+            }
+            int total = summary.getTotal();
+            int converted = summary.getConverted();
             
             System.out.println("\n=== Summary ===");
-            System.out.println("Converted " + parsedMarkets.size() + " out of " + rawMarkets.size() + " markets");
-            System.out.println("JSON file saved to: " + outputPath.toAbsolutePath());
-            
+            System.out.println("Converted " + converted + " out of " + total + " markets");
+            printRejects(rejectCounts(List.of(summary)));
+            printUnmappedNames(converterOptions.getUnmappedMarketNames());
+            if (summary.getEvents() >= 0) {
+                System.out.println("Events: " + summary.getEvents() + " (up to " + summary.getMaxEventMarkets()
+                        + " markets per event)");
+            }
+            System.out.println((options.getFormat().isBinary() ? "Output" : "JSON") + " file saved to: "
+                    + outputPath.toAbsolutePath());
+            if (options.isGroupByEvent()) {
+                System.out.println("Event index saved to: " + EventIndex.pathFor(outputPath).toAbsolutePath());
+            }
+            if (delta != null) {
+                System.out.println("Delta: " + delta.getChangedMarkets() + " new/changed, "
+                        + delta.getUnchangedMarkets() + " unchanged, "
+                        + delta.getRemovedMarkets() + " removed (state: " + deltaStatePath.toAbsolutePath() + ")");
+            }
+            if (converterOptions.getUidCache() != null) {
+                System.out.println("UID cache: " + converterOptions.getUidCache());
+            }
+            if (metrics != null) {
+                System.out.println("\n=== Metrics ===");
+                System.out.print(metrics.report());
+            }
 
-            // Print JSON content to console as well
-            System.out.println("\n=== JSON File Content ===");
-            System.out.println(mapper.writeValueAsString(parsedMarkets));
+            // Print JSON content to console on request (copied from disk, not re-serialized)
+            if (options.isEcho() && options.getFormat().isBinary()) {
+                System.out.println("\n(" + options.getFormat().getCliName() + " output is binary and is not echoed)");
+            } else if (options.isEcho()) {
+                System.out.println("\n=== JSON File Content ===");
+                Files.copy(outputPath, System.out);
+                System.out.println();
+            }
 
         } catch (MissingFileException e) {
             System.err.println("File error: " + e.getMessage());
@@ -93,4 +165,210 @@ public class Main {
             System.exit(1);
         }
     }
+
+    private static void printMarket(int number, RawMarket raw, ConversionResult result) {
+        System.out.println("Converting market #" + number + ": " + (raw == null ? "null" : raw.getName()));
+        if (result.isSuccess()) {
+            System.out.println("✅ Successfully converted - " + result.getMarket().getMarket_uid());
+        } else {
+            System.out.println("❌ Conversion error: " + result.getErrorMessage());
+        }
+    }
+
+    // Failed markets per error code, summed over files
+    private static long[] rejectCounts(List<MarketFileConverter.Summary> summaries) {
+        long[] counts = new long[ErrorCode.values().length];
+        for (MarketFileConverter.Summary summary : summaries) {
+            for (ErrorCode code : ErrorCode.values()) {
+                counts[code.ordinal()] += summary.getRejected(code);
+            }
+        }
+        return counts;
+    }
+
+    // One line with the unmapped market and selection types, plus any other failure codes that occurred
+    private static void printRejects(long[] counts) {
+        long rejected = 0;
+        for (long count : counts) {
+            rejected += count;
+        }
+        if (rejected == 0) {
+            return;
+        }
+        StringBuilder line = new StringBuilder("Rejected: ")
+                .append(ErrorCode.UNKNOWN_MARKET_TYPE).append('=').append(counts[ErrorCode.UNKNOWN_MARKET_TYPE.ordinal()])
+                .append(", ")
+                .append(ErrorCode.UNKNOWN_SELECTION_TYPE).append('=').append(counts[ErrorCode.UNKNOWN_SELECTION_TYPE.ordinal()]);
+        for (ErrorCode code : ErrorCode.values()) {
+            if (code != ErrorCode.UNKNOWN_MARKET_TYPE && code != ErrorCode.UNKNOWN_SELECTION_TYPE
+                    && counts[code.ordinal()] > 0) {
+                line.append(", ").append(code).append('=').append(counts[code.ordinal()]);
+            }
+        }
+        System.out.println(line);
+    }
+
+    // Most frequent unknown market names, as candidates for new MarketType entries
+    private static void printUnmappedNames(UnmappedMarketNames unmappedNames) {
+        if (unmappedNames == null || unmappedNames.size() == 0) {
+            return;
+        }
+        StringBuilder line = new StringBuilder("Top unmapped market names:");
+        for (Map.Entry<String, Long> entry : unmappedNames.top(TOP_UNMAPPED_NAMES)) {
+            line.append(" '").append(entry.getKey()).append("'=").append(entry.getValue());
+        }
+        if (unmappedNames.getUntracked() > 0) {
+            line.append(" (").append(unmappedNames.getUntracked()).append(" more after the cache filled)");
+        }
+        System.out.println(line);
+    }
+
+    // Periodic progress lines in quiet mode; a no-op reporter otherwise
+    private static MetricsReporter metricsReporter(CliOptions options, ConversionMetrics metrics) {
+        return new MetricsReporter(metrics, metrics == null ? 0 : options.getMetricsIntervalSeconds(), System.out);
+    }
+
+    // Starts the resident HTTP service on localhost and blocks until the JVM is stopped
+    private static void runServer(CliOptions options) throws IOException, InterruptedException {
+        ConverterOptions converterOptions = converterOptions(options);
+        ObjectMapper mapper = createMapper();
+        ConversionService service = new ConversionService(mapper, new MarketConverter(converterOptions));
+
+        System.out.println("=== Market Conversion Service ===");
+        long start = System.nanoTime();
+        service.warmUp(options.getWarmUpIterations());
+        System.out.println("Warm-up: " + options.getWarmUpIterations() + " batches in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        ConversionServer server = new ConversionServer(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), options.getServePort()), service);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "conversion-server-shutdown"));
+        server.start();
+        System.out.println("Listening on http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                + server.getPort() + " (POST /convert, GET /health)");
+        Thread.currentThread().join();
+    }
+
+    private static boolean isBatch(CliOptions options) {
+        return options.getInputFilenames().size() > 1
+                || FilePathResolver.isBatchInput(options.getInputFilename());
+    }
+
+    // Converts every matched file with one mapper and converter; returns the process exit code
+    private static int runBatch(CliOptions options) throws InterruptedException {
+        if (options.getDeltaStateFile() != null) {
+            System.out.println("--delta cannot be combined with a batch of input files");
+            return 1;
+        }
+
+        List<Path> inputs = new ArrayList<>();
+        for (String pattern : options.getInputFilenames()) {
+            inputs.addAll(FilePathResolver.resolveInputPaths(pattern));
+        }
+
+        ConverterOptions converterOptions = converterOptions(options);
+        MarketConverter converter = new MarketConverter(converterOptions);
+        ObjectMapper mapper = createMapper();
+        MarketWriter.Factory writers = writerFactory(options);
+
+        System.out.println("=== Batch Market Conversion ===");
+        System.out.println("Input files: " + inputs.size() + " (up to " + options.getParallelFiles() + " at a time)");
+
+        ConversionMetrics metrics = options.isQuiet() ? new ConversionMetrics() : null;
+        long start = System.nanoTime();
+        List<BatchConverter.FileResult> results;
+        MetricsReporter reporter = metricsReporter(options, metrics);
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(converter, options.getThreads(),
+                     ParallelMarketConverter.DEFAULT_BATCH_SIZE, metrics)) {
+            MarketFileConverter fileConverter =
+                    fileConverter(options, writers, createReader(options, mapper), parallel, metrics);
+            BatchConverter batch = new BatchConverter(fileConverter, options.getParallelFiles(), options.getFormat());
+            results = batch.convertAll(inputs);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return 1;
+        } finally {
+            reporter.close();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        int failedFiles = 0;
+        long total = 0;
+        long converted = 0;
+        List<MarketFileConverter.Summary> summaries = new ArrayList<>();
+        for (BatchConverter.FileResult result : results) {
+            if (!result.isSuccess()) {
+                failedFiles++;
+                continue;
+            }
+            total += result.getSummary().getTotal();
+            converted += result.getSummary().getConverted();
+            summaries.add(result.getSummary());
+        }
+
+        System.out.println("\n=== Batch Summary ===");
+        System.out.println("Files: " + (results.size() - failedFiles) + " converted, " + failedFiles + " failed");
+        System.out.println("Converted " + converted + " out of " + total + " markets");
+        printRejects(rejectCounts(summaries));
+        printUnmappedNames(converterOptions.getUnmappedMarketNames());
+        System.out.println("Elapsed: " + elapsedMillis + " ms ("
+                + (elapsedMillis == 0 ? total : total * 1000 / elapsedMillis) + " markets/sec)");
+        for (BatchConverter.FileResult result : results) {
+            if (!result.isSuccess()) {
+                System.out.println("Failed: " + result.getInput() + " - " + result.getErrorMessage());
+            }
+        }
+        if (converterOptions.getUidCache() != null) {
+            System.out.println("UID cache: " + converterOptions.getUidCache());
+        }
+        if (metrics != null) {
+            System.out.println("\n=== Metrics ===");
+            System.out.print(metrics.report());
+        }
+        return failedFiles == 0 ? 0 : 1;
+    }
+
+    private static MarketWriter.Factory writerFactory(CliOptions options) {
+        return options.isGroupByEvent()
+                ? options.getFormat().eventGroupingWriterFactory()
+                : options.getFormat().writerFactory();
+    }
+
+    private static ConverterOptions converterOptions(CliOptions options) {
+        ConverterOptions converterOptions = ConverterOptions.defaults()
+                .withValidation(options.getValidation())
+                .withNumericEventIds(options.isNumericEventIds());
+        if (options.getUidCacheSize() > 0) {
+            converterOptions = converterOptions.withUidCache(new UidCache(options.getUidCacheSize()));
+        }
+        if (options.getUnmappedNames() > 0) {
+            converterOptions = converterOptions.withUnmappedMarketNames(new UnmappedMarketNames(options.getUnmappedNames()));
+        }
+        return converterOptions;
+    }
+
+    private static MarketFileConverter fileConverter(CliOptions options, MarketWriter.Factory writers,
+                                                     JsonMarketStreamReader reader, ParallelMarketConverter parallel,
+                                                     ConversionMetrics metrics) {
+        MarketFileConverter fileConverter = new MarketFileConverter(writers, reader, parallel, metrics);
+        if (options.isNumericEventIds()) {
+            fileConverter = fileConverter.withEventCounts();
+        }
+        return options.isPipeline() ? fileConverter.withPipeline() : fileConverter;
+    }
+
+    private static JsonMarketStreamReader createReader(CliOptions options, ObjectMapper mapper) {
+        if (options.getParseThreads() > 1) {
+            return new ParallelMarketReader(mapper, options.getParseThreads(), options.isMemoryMapped());
+        }
+        return new JacksonStreamingMarketReader(mapper, options.isMemoryMapped());
+    }
+
+    // Shared input mapper (compact when writing, as in server responses); thread-safe once configured.
+    // File output uses OutputFormat.createMapper()
+    private static ObjectMapper createMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
 }
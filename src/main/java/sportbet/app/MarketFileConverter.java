@@ -0,0 +1,281 @@
+package sportbet.app;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.core.ConversionResult;
+import sportbet.core.ParallelMarketConverter;
+import sportbet.delta.OddsDeltaTracker;
+import sportbet.errors.ErrorCode;
+import sportbet.io.JacksonStreamingMarketReader;
+import sportbet.io.JacksonStreamingMarketWriter;
+import sportbet.io.JsonMarketStreamReader;
+import sportbet.io.MarketCursor;
+import sportbet.io.MarketWriter;
+import sportbet.metrics.ConversionMetrics;
+import sportbet.model.ParsedMarket;
+import sportbet.model.RawMarket;
+import sportbet.uid.EventIdIndex;
+import sportbet.uid.UidGenerator;
+
+// Streams one input file through a shared converter into its output file; safe to call from several threads
+public class MarketFileConverter {
+
+    // Receives every market in input order, on the thread that called convert
+    public interface Listener {
+        void onMarket(int number, RawMarket raw, ConversionResult result);
+    }
+
+    private static final Listener SILENT = (number, raw, result) -> {};
+
+    private final MarketWriter.Factory writers;
+    private final JsonMarketStreamReader reader;
+    private final ParallelMarketConverter converter;
+    private final ConversionMetrics metrics;
+    // Chunks in flight when pipelined, 0 for the windowed loop
+    private final int pipelineChunks;
+    // Count converted markets per numeric event ID, see Summary.getEvents()
+    private final boolean countEvents;
+
+    public MarketFileConverter(ObjectMapper mapper, ParallelMarketConverter converter) {
+        this(mapper, new JacksonStreamingMarketReader(mapper), converter, null);
+    }
+
+    // metrics may be null; when set reads and writes are timed and every market is counted
+    public MarketFileConverter(ObjectMapper mapper, JsonMarketStreamReader reader,
+                               ParallelMarketConverter converter, ConversionMetrics metrics) {
+        this(target -> new JacksonStreamingMarketWriter(mapper, target), reader, converter, metrics);
+    }
+
+    // Writes through any output format, see OutputFormat.writerFactory()
+    public MarketFileConverter(MarketWriter.Factory writers, JsonMarketStreamReader reader,
+                               ParallelMarketConverter converter, ConversionMetrics metrics) {
+        this(writers, reader, converter, metrics, 0, false);
+    }
+
+    private MarketFileConverter(MarketWriter.Factory writers, JsonMarketStreamReader reader,
+                                ParallelMarketConverter converter, ConversionMetrics metrics, int pipelineChunks,
+                                boolean countEvents) {
+        this.writers = writers;
+        this.reader = reader;
+        this.converter = converter;
+        this.metrics = metrics;
+        this.pipelineChunks = pipelineChunks;
+        this.countEvents = countEvents;
+    }
+
+    // Copy that reads, converts and writes concurrently with the default number of chunks in flight
+    public MarketFileConverter withPipeline() {
+        return withPipeline(MarketPipeline.defaultCapacity(converter.getThreads()));
+    }
+
+    // Copy that reads, converts and writes concurrently, with at most chunks batches of markets in flight
+    public MarketFileConverter withPipeline(int chunks) {
+        if (chunks < 1) {
+            throw new IllegalArgumentException("chunks must be at least 1: " + chunks);
+        }
+        return new MarketFileConverter(writers, reader, converter, metrics, chunks, countEvents);
+    }
+
+    // Copy that also counts converted markets per event, keyed by the numeric event ID in front of each
+    // market UID; UIDs with a non-numeric event ID are not counted
+    public MarketFileConverter withEventCounts() {
+        return new MarketFileConverter(writers, reader, converter, metrics, pipelineChunks, true);
+    }
+
+    public Summary convert(Path inputPath, Path outputPath) throws IOException {
+        return convert(inputPath, outputPath, null, SILENT);
+    }
+
+    // delta may be null; when set only new/changed markets and tombstones are written
+    public Summary convert(Path inputPath, Path outputPath, OddsDeltaTracker delta, Listener listener)
+            throws IOException {
+        try (MarketCursor cursor = reader.open(inputPath);
+             MarketWriter out = writers.open(outputPath)) {
+            Summary summary = pipelineChunks > 0
+                    ? new MarketPipeline(this, converter, metrics, pipelineChunks).run(cursor, out, delta, listener)
+                    : convertWindows(cursor, out, delta, listener);
+            if (delta != null) {
+                for (ParsedMarket removed : delta.endSnapshot()) {
+                    out.write(removed);
+                }
+            }
+            out.commit();
+            return summary;
+        }
+    }
+
+    // Reads a window, converts it on the worker pool and writes it, one step after another
+    private Summary convertWindows(MarketCursor cursor, MarketWriter out, OddsDeltaTracker delta, Listener listener) {
+        Tally tally = newTally();
+        // Convert a bounded window of markets at a time so memory stays flat
+        List<RawMarket> window = new ArrayList<>(converter.getWindowSize());
+        // Markets of the previous window, handed back to the cursor for reuse
+        RawMarket[] holders = new RawMarket[converter.getWindowSize()];
+        while (fill(cursor, window, holders)) {
+            List<ConversionResult> results = converter.convertAll(window);
+            for (int i = 0; i < window.size(); i++) {
+                emit(out, delta, listener, tally, window.get(i), results.get(i));
+            }
+        }
+        return tally.summary();
+    }
+
+    Tally newTally() {
+        return new Tally(countEvents ? new EventIdIndex() : null);
+    }
+
+    // Reports one result in input order, counts it into tally and writes it unless delta filters it out
+    void emit(MarketWriter out, OddsDeltaTracker delta, Listener listener,
+              Tally tally, RawMarket raw, ConversionResult result) {
+        listener.onMarket(++tally.total, raw, result);
+        if (!result.isSuccess()) {
+            tally.rejects[result.getErrorCode().ordinal()]++;
+            if (metrics != null) {
+                metrics.recordFailure(result.getErrorCode());
+            }
+            return;
+        }
+        ParsedMarket parsed = result.getMarket();
+        tally.converted++;
+        if (tally.events != null) {
+            // The raw event ID, not the UID prefix: "12_3" is one non-numeric event, not event 12
+            long eventId = UidGenerator.parseEventId(parsed.getEventId());
+            if (eventId != UidGenerator.NON_NUMERIC_EVENT_ID) {
+                tally.countEvent(eventId);
+            }
+        }
+        if (delta == null || delta.accept(parsed)) {
+            write(out, parsed);
+        }
+        if (metrics != null) {
+            metrics.recordConverted(parsed.getSelectionCount());
+        }
+    }
+
+    // Refills the window from the cursor; false once the input is exhausted.
+    // A JSON null element is a null market in the window, not the end of the input. Its slot holds
+    // null afterwards: the holder handed back with next() now belongs to the cursor
+    private boolean fill(MarketCursor cursor, List<RawMarket> window, RawMarket[] holders) {
+        window.clear();
+        while (window.size() < converter.getWindowSize() && hasNext(cursor)) {
+            int index = window.size();
+            RawMarket raw = cursor.next(holders[index]);
+            holders[index] = raw;
+            window.add(raw);
+        }
+        return !window.isEmpty();
+    }
+
+    // True while the cursor has elements left; the cursor decodes the next element here, so this is
+    // the timed read
+    boolean hasNext(MarketCursor cursor) {
+        if (metrics == null) {
+            return cursor.hasNext();
+        }
+        long start = System.nanoTime();
+        boolean more = cursor.hasNext();
+        if (more) {
+            metrics.recordLatency(ConversionMetrics.Stage.READ, System.nanoTime() - start);
+        }
+        return more;
+    }
+
+    private void write(MarketWriter out, ParsedMarket parsed) {
+        if (metrics == null) {
+            out.write(parsed);
+            return;
+        }
+        long start = System.nanoTime();
+        out.write(parsed);
+        metrics.recordLatency(ConversionMetrics.Stage.WRITE, System.nanoTime() - start);
+    }
+
+    // Running counts of one convert call, updated only by the thread that emits
+    static final class Tally {
+        private int total;
+        private int converted;
+        private final int[] rejects = new int[ErrorCode.values().length];
+        // null unless events are counted; eventMarkets is indexed by event slot
+        private final EventIdIndex events;
+        private int[] eventMarkets = new int[0];
+
+        private Tally(EventIdIndex events) {
+            this.events = events;
+        }
+
+        private void countEvent(long eventId) {
+            int slot = events.slotOf(eventId);
+            if (slot == eventMarkets.length) {
+                eventMarkets = Arrays.copyOf(eventMarkets, Math.max(16, slot * 2));
+            }
+            eventMarkets[slot]++;
+        }
+
+        Summary summary() {
+            if (events == null) {
+                return new Summary(total, converted, rejects);
+            }
+            int max = 0;
+            for (int slot = 0; slot < events.size(); slot++) {
+                max = Math.max(max, eventMarkets[slot]);
+            }
+            return new Summary(total, converted, rejects, events.size(), max);
+        }
+    }
+
+    // Market counts of one converted file
+    public static final class Summary {
+        private final int total;
+        private final int converted;
+        private final int[] rejects;
+        private final int events;
+        private final int maxEventMarkets;
+
+        public Summary(int total, int converted) {
+            this(total, converted, new int[ErrorCode.values().length]);
+        }
+
+        // rejects holds the failed markets per error code ordinal
+        public Summary(int total, int converted, int[] rejects) {
+            this(total, converted, rejects, -1, -1);
+        }
+
+        // events and maxEventMarkets are -1 when events were not counted
+        public Summary(int total, int converted, int[] rejects, int events, int maxEventMarkets) {
+            this.total = total;
+            this.converted = converted;
+            this.rejects = rejects.clone();
+            this.events = events;
+            this.maxEventMarkets = maxEventMarkets;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getConverted() {
+            return converted;
+        }
+
+        // Markets that failed with code
+        public int getRejected(ErrorCode code) {
+            return rejects[code.ordinal()];
+        }
+
+        // Distinct numeric event IDs among converted markets, -1 unless counted with withEventCounts()
+        public int getEvents() {
+            return events;
+        }
+
+        // Most converted markets of a single event, -1 unless counted
+        public int getMaxEventMarkets() {
+            return maxEventMarkets;
+        }
+    }
+}
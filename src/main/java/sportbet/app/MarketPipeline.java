@@ -0,0 +1,259 @@
+package sportbet.app;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import sportbet.core.ConversionResult;
+import sportbet.core.ParallelMarketConverter;
+import sportbet.delta.OddsDeltaTracker;
+import sportbet.errors.DomainException;
+import sportbet.errors.ErrorCode;
+import sportbet.io.MarketCursor;
+import sportbet.io.MarketWriter;
+import sportbet.metrics.ConversionMetrics;
+import sportbet.metrics.PipelineStats;
+import sportbet.model.RawMarket;
+
+// Converts one file as overlapping stages: a reader thread, N converter threads and the calling thread as ordered writer.
+// A fixed pool of chunks circulates through the stages, so a slow stage blocks the reader instead of buffering markets
+final class MarketPipeline {
+
+    // Marker telling a converter thread that the reader is done
+    private static final Chunk STOP = new Chunk(0);
+
+    private final MarketFileConverter fileConverter;
+    private final ParallelMarketConverter converter;
+    private final PipelineStats stats;
+    private final ConversionMetrics metrics;
+    private final int workers;
+    private final BlockingQueue<Chunk> free;
+    // Bounded by the chunk pool; unbounded queues only so failure markers never block
+    private final BlockingQueue<Chunk> toConvert = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Chunk> toWrite = new LinkedBlockingQueue<>();
+
+    // metrics may be null; stage and queue statistics are then kept but not reported
+    MarketPipeline(MarketFileConverter fileConverter, ParallelMarketConverter converter,
+                   ConversionMetrics metrics, int capacity) {
+        this.fileConverter = fileConverter;
+        this.converter = converter;
+        this.workers = converter.getThreads();
+        this.metrics = metrics;
+        this.stats = metrics != null ? metrics.pipeline() : new PipelineStats();
+        stats.configure(capacity, workers);
+        this.free = new LinkedBlockingQueue<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            free.add(new Chunk(converter.getBatchSize()));
+        }
+    }
+
+    // Room for one chunk being read, one per converter and one being written, and as many again queued
+    static int defaultCapacity(int workers) {
+        return 2 * workers + 2;
+    }
+
+    // Reads, converts and writes every market of cursor; closes the cursor when reading ends
+    MarketFileConverter.Summary run(MarketCursor cursor, MarketWriter out, OddsDeltaTracker delta,
+                                    MarketFileConverter.Listener listener) {
+        ExecutorService threads = Executors.newFixedThreadPool(1 + workers, stageFactory(metrics));
+        try {
+            threads.execute(() -> read(cursor));
+            for (int i = 0; i < workers; i++) {
+                threads.execute(this::convert);
+            }
+            return write(out, delta, listener);
+        } finally {
+            threads.shutdownNow();
+            awaitStages(threads);
+        }
+    }
+
+    private void read(MarketCursor cursor) {
+        long sequence = 0;
+        try {
+            while (true) {
+                Chunk chunk = take(free, ConversionMetrics.Stage.READ);
+                chunk.reset(sequence++);
+                long start = System.nanoTime();
+                try {
+                    // Null elements are passed on as null markets; only hasNext() ends the input.
+                    // The market handed back with next() belongs to the cursor afterwards, so its slot
+                    // always takes the returned market, null included
+                    while (chunk.size < chunk.raws.length) {
+                        if (!fileConverter.hasNext(cursor)) {
+                            chunk.last = true;
+                            break;
+                        }
+                        chunk.raws[chunk.size] = cursor.next(chunk.raws[chunk.size]);
+                        chunk.size++;
+                    }
+                } catch (RuntimeException e) {
+                    // Reported by the writer after the markets read before it, like the sequential path
+                    chunk.failure = e;
+                    chunk.last = true;
+                }
+                stats.recordBusy(ConversionMetrics.Stage.READ, chunk.size, System.nanoTime() - start);
+                put(toConvert, ConversionMetrics.Stage.CONVERT, chunk);
+                if (chunk.last) {
+                    break;
+                }
+            }
+            for (int i = 0; i < workers; i++) {
+                toConvert.add(STOP);
+            }
+        } catch (InterruptedException e) {
+            // Cancelled by the writer
+        } catch (Throwable t) {
+            toWrite.add(Chunk.fatal(t));
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private void convert() {
+        try {
+            while (true) {
+                Chunk chunk = take(toConvert, ConversionMetrics.Stage.CONVERT);
+                if (chunk == STOP) {
+                    return;
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < chunk.size; i++) {
+                    chunk.results[i] = converter.convert(chunk.raws[i]);
+                }
+                stats.recordBusy(ConversionMetrics.Stage.CONVERT, chunk.size, System.nanoTime() - start);
+                put(toWrite, ConversionMetrics.Stage.WRITE, chunk);
+            }
+        } catch (InterruptedException e) {
+            // Cancelled by the writer
+        } catch (Throwable t) {
+            toWrite.add(Chunk.fatal(t));
+        }
+    }
+
+    // Writes chunks in read order on the calling thread, holding back those that finish early
+    private MarketFileConverter.Summary write(MarketWriter out, OddsDeltaTracker delta,
+                                              MarketFileConverter.Listener listener) {
+        Map<Long, Chunk> early = new HashMap<>();
+        long next = 0;
+        MarketFileConverter.Tally tally = fileConverter.newTally();
+        try {
+            while (true) {
+                Chunk chunk = take(toWrite, ConversionMetrics.Stage.WRITE);
+                if (chunk.fatal) {
+                    throw rethrow(chunk.failure);
+                }
+                early.put(chunk.sequence, chunk);
+                while ((chunk = early.remove(next)) != null) {
+                    next++;
+                    long start = System.nanoTime();
+                    for (int i = 0; i < chunk.size; i++) {
+                        fileConverter.emit(out, delta, listener, tally, chunk.raws[i], chunk.results[i]);
+                        chunk.results[i] = null;
+                    }
+                    stats.recordBusy(ConversionMetrics.Stage.WRITE, chunk.size, System.nanoTime() - start);
+                    if (chunk.failure != null) {
+                        throw rethrow(chunk.failure);
+                    }
+                    if (chunk.last) {
+                        return tally.summary();
+                    }
+                    free.add(chunk);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DomainException(ErrorCode.CONVERSION_ERROR, "Interrupted while converting markets", e);
+        }
+    }
+
+    private Chunk take(BlockingQueue<Chunk> queue, ConversionMetrics.Stage stage) throws InterruptedException {
+        long start = System.nanoTime();
+        Chunk chunk = queue.take();
+        stats.recordWait(stage, System.nanoTime() - start);
+        if (queue != free && chunk != STOP && !chunk.fatal) {
+            stats.dequeued(stage);
+        }
+        return chunk;
+    }
+
+    private void put(BlockingQueue<Chunk> queue, ConversionMetrics.Stage stage, Chunk chunk) {
+        stats.enqueued(stage);
+        queue.add(chunk);
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new DomainException(ErrorCode.CONVERSION_ERROR, "Pipeline stage failed: " + failure.getMessage(), failure);
+    }
+
+    // Stages stop at their next queue operation; wait so the cursor is no longer in use when the caller closes it
+    private static void awaitStages(ExecutorService threads) {
+        try {
+            threads.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Stage threads live for one file; they release their latency recorders on exit so that a
+    // batch of many files does not leave one recorder per finished thread behind
+    private static ThreadFactory stageFactory(ConversionMetrics metrics) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Runnable releasing = metrics == null ? runnable : () -> {
+                try {
+                    runnable.run();
+                } finally {
+                    metrics.releaseThread();
+                }
+            };
+            Thread thread = new Thread(releasing, "market-pipeline-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Up to one converter batch of markets and their results; raw markets are handed back to the cursor for reuse
+    private static final class Chunk {
+        // Markets as read, null for JSON null elements
+        final RawMarket[] raws;
+        final ConversionResult[] results;
+        long sequence;
+        int size;
+        boolean last;
+        boolean fatal;
+        Throwable failure;
+
+        Chunk(int capacity) {
+            this.raws = new RawMarket[capacity];
+            this.results = new ConversionResult[capacity];
+        }
+
+        // Failure outside the ordered flow, reported as soon as the writer sees it
+        static Chunk fatal(Throwable failure) {
+            Chunk chunk = new Chunk(0);
+            chunk.fatal = true;
+            chunk.failure = failure;
+            return chunk;
+        }
+
+        void reset(long sequence) {
+            this.sequence = sequence;
+            this.size = 0;
+            this.last = false;
+            this.failure = null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package sportbet.core;
+
+import java.util.function.Supplier;
+
+import sportbet.errors.DomainException;
+import sportbet.errors.ErrorCode;
+import sportbet.model.ParsedMarket;
+
+// Outcome of converting one raw market: the parsed market or the failure code and message.
+// Failure messages can be built lazily, so a reject nobody prints costs one small object
+public final class ConversionResult {
+
+    private final ParsedMarket market;
+    private final ErrorCode errorCode;
+    private Supplier<String> messageSupplier;
+    private String errorMessage;
+
+    private ConversionResult(ParsedMarket market, ErrorCode errorCode, String errorMessage,
+                             Supplier<String> messageSupplier) {
+        this.market = market;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.messageSupplier = messageSupplier;
+    }
+
+    public static ConversionResult success(ParsedMarket market) {
+        return new ConversionResult(market, null, null, null);
+    }
+
+    public static ConversionResult failure(ErrorCode errorCode, String errorMessage) {
+        return new ConversionResult(null, errorCode, errorMessage, null);
+    }
+
+    // Message is built on the first getErrorMessage call
+    public static ConversionResult failure(ErrorCode errorCode, Supplier<String> message) {
+        return new ConversionResult(null, errorCode, null, message);
+    }
+
+    // Domain exceptions keep their code; anything else counts as a CONVERSION_ERROR
+    public static ConversionResult failure(Exception e) {
+        ErrorCode code = e instanceof DomainException ? ((DomainException) e).getCode() : ErrorCode.CONVERSION_ERROR;
+        return failure(code, e.getMessage());
+    }
+
+    public boolean isSuccess() {
+        return market != null;
+    }
+
+    public ParsedMarket getMarket() {
+        return market;
+    }
+
+    // null on success
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    // null on success; results are read by one thread at a time, so the message is built once
+    public String getErrorMessage() {
+        if (messageSupplier != null) {
+            errorMessage = messageSupplier.get();
+            messageSupplier = null;
+        }
+        return errorMessage;
+    }
+
+    // The parsed market, or a DomainException with the failure code and message
+    public ParsedMarket getMarketOrThrow() {
+        if (market == null) {
+            throw new DomainException(errorCode, getErrorMessage());
+        }
+        return market;
+    }
+}
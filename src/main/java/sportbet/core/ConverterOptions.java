@@ -0,0 +1,65 @@
+package sportbet.core;
+
+import sportbet.domain.UnmappedMarketNames;
+import sportbet.uid.UidCache;
+import sportbet.validate.ValidationMode;
+
+// Optional MarketConverter features; immutable, start from defaults() and use the with* methods
+public final class ConverterOptions {
+
+    private final UidCache uidCache;
+    private final UnmappedMarketNames unmappedMarketNames;
+    private final ValidationMode validationMode;
+    private final boolean numericEventIds;
+
+    private ConverterOptions(UidCache uidCache, UnmappedMarketNames unmappedMarketNames,
+                             ValidationMode validationMode, boolean numericEventIds) {
+        this.uidCache = uidCache;
+        this.unmappedMarketNames = unmappedMarketNames;
+        this.validationMode = validationMode;
+        this.numericEventIds = numericEventIds;
+    }
+
+    public static ConverterOptions defaults() {
+        return new ConverterOptions(null, null, ValidationMode.OFF, false);
+    }
+
+    // Reuse market and selection UIDs for repeated (event, type, specifier) tuples; null disables
+    public ConverterOptions withUidCache(UidCache uidCache) {
+        return new ConverterOptions(uidCache, unmappedMarketNames, validationMode, numericEventIds);
+    }
+
+    // Reject repeated unknown market names from a negative cache and count them per name; null disables
+    public ConverterOptions withUnmappedMarketNames(UnmappedMarketNames unmappedMarketNames) {
+        return new ConverterOptions(uidCache, unmappedMarketNames, validationMode, numericEventIds);
+    }
+
+    // Apply the RawMarketValidator rules while converting; invalid markets fail with VALIDATION_ERROR
+    public ConverterOptions withValidation(ValidationMode validationMode) {
+        if (validationMode == null) {
+            throw new IllegalArgumentException("validationMode must not be null");
+        }
+        return new ConverterOptions(uidCache, unmappedMarketNames, validationMode, numericEventIds);
+    }
+
+    // Parse event IDs once into a long and build UIDs and cache keys from it; non-numeric IDs keep the string path
+    public ConverterOptions withNumericEventIds(boolean numericEventIds) {
+        return new ConverterOptions(uidCache, unmappedMarketNames, validationMode, numericEventIds);
+    }
+
+    public UidCache getUidCache() {
+        return uidCache;
+    }
+
+    public UnmappedMarketNames getUnmappedMarketNames() {
+        return unmappedMarketNames;
+    }
+
+    public ValidationMode getValidationMode() {
+        return validationMode;
+    }
+
+    public boolean isNumericEventIds() {
+        return numericEventIds;
+    }
+}
@@ -1,147 +1,280 @@
 package sportbet.core;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import sportbet.domain.MarketType;
+import sportbet.domain.SpecifierType;
+import sportbet.domain.UnmappedMarketNames;
+import sportbet.errors.ErrorCode;
 import sportbet.model.ParsedMarket;
 import sportbet.model.ParsedSelection;
 import sportbet.model.RawMarket;
 import sportbet.model.RawSelection;
-import sportbet.normalize.MarketNormalizer;
+import sportbet.normalize.SelectionNameCleaner;
+import sportbet.normalize.SelectionToken;
+import sportbet.uid.UidCache;
 import sportbet.uid.UidGenerator;
+import sportbet.validate.MarketRules;
+import sportbet.validate.ValidationMode;
 
-// Converts raw markets to parsed markets with UIDs and specifiers
+// Converts raw markets to parsed markets with UIDs and specifiers.
+// Holds no per-call state, so one instance can be shared across threads.
 public class MarketConverter {
     
-    private final MarketNormalizer normalizer;
+    // Markers in the selection type ID array for the selection that stopped tokenizing
+    private static final int UNKNOWN_SELECTION = -1;
+    private static final int INVALID_SELECTION = -2;
+    
+    private final ConverterOptions options;
+    private final UidCache uidCache;
+    private final UnmappedMarketNames unmappedMarketNames;
+    private final ValidationMode validation;
+    private final boolean numericEventIds;
     
     public MarketConverter() {
-        this.normalizer = new MarketNormalizer();
+        this(ConverterOptions.defaults());
+    }
+    
+    public MarketConverter(ConverterOptions options) {
+        this.options = options;
+        this.uidCache = options.getUidCache();
+        this.unmappedMarketNames = options.getUnmappedMarketNames();
+        this.validation = options.getValidationMode();
+        this.numericEventIds = options.isNumericEventIds();
     }
     
-    // Main conversion method
+    // Converter with the same settings but its own empty UID cache and unmapped-name counts, for
+    // traffic such as server warm-up that must not show up in this converter's stats
+    public MarketConverter isolatedCopy() {
+        return new MarketConverter(options
+            .withUidCache(uidCache != null ? new UidCache(uidCache.getMaxEntries()) : null)
+            .withUnmappedMarketNames(unmappedMarketNames != null ? new UnmappedMarketNames() : null));
+    }
+    
+    // Main conversion method; throws DomainException for markets that cannot be converted
     public ParsedMarket convert(RawMarket rawMarket) {
-        // Find market type by name
-        Optional<MarketType> marketTypeOpt = MarketType.fromName(rawMarket.getName());
+        return tryConvert(rawMarket).getMarketOrThrow();
+    }
+    
+    // Converts without throwing for expected rejects (invalid data, unknown market or selection type,
+    // missing odds); their messages are only built when read
+    public ConversionResult tryConvert(RawMarket rawMarket) {
+        // A JSON null element in the input array
+        if (rawMarket == null) {
+            return ConversionResult.failure(ErrorCode.CONVERSION_ERROR, "Market cannot be null");
+        }
         
-        if (marketTypeOpt.isEmpty()) {
-            throw new IllegalArgumentException("Unknown market type: " + rawMarket.getName());
+        // Market-level rules are O(1); selection rules run inside the tokenize loop below
+        if (validation.isEnabled()) {
+            String error = marketError(rawMarket);
+            if (error != null) {
+                return ConversionResult.failure(ErrorCode.VALIDATION_ERROR, error);
+            }
         }
         
-        MarketType marketType = marketTypeOpt.get();
+        // Find market type by name
+        String name = rawMarket.getName();
+        MarketType marketType = unmappedMarketNames != null
+            ? unmappedMarketNames.lookup(name)
+            : MarketType.lookup(name);
+        
+        if (marketType == null) {
+            return ConversionResult.failure(ErrorCode.UNKNOWN_MARKET_TYPE, () -> "Unknown market type: " + name);
+        }
         
-        // Extract specifiers based on market type
-        Map<String, String> specifiers = extractSpecifiers(rawMarket, marketType);
+        // Tokenize every selection name once: type IDs and the specifier come from the same scan
+        List<RawSelection> rawSelections = rawMarket.getSelections();
+        int[] selectionTypeIds = new int[rawSelections.size()];
+        String specifierValue = tokenizeSelections(rawSelections, marketType, selectionTypeIds);
+        ConversionResult rejected = rejectSelections(rawSelections, selectionTypeIds, marketType);
+        if (rejected != null) {
+            return rejected;
+        }
         
-        // Generate market_uid
-        String marketUid = generateMarketUid(rawMarket.getEvent_id(), marketType.getTypeId(), specifiers);
+        // Generate market_uid, reusing cached UIDs for a repeated tuple.
+        // In numeric mode the event ID is parsed once and used for both the cache key and the UID
+        String eventId = rawMarket.getEvent_id();
+        long numericEventId = numericEventIds ? UidGenerator.parseEventId(eventId) : UidGenerator.NON_NUMERIC_EVENT_ID;
+        String marketUid;
+        UidCache.Entry cachedUids;
+        if (numericEventId != UidGenerator.NON_NUMERIC_EVENT_ID) {
+            cachedUids = uidCache != null ? uidCache.get(numericEventId, marketType.getTypeId(), specifierValue) : null;
+            marketUid = cachedUids != null
+                ? cachedUids.getMarketUid()
+                : UidGenerator.generateMarketUid(numericEventId, marketType.getTypeId(), specifierValue);
+        } else {
+            cachedUids = lookupUids(eventId, marketType.getTypeId(), specifierValue);
+            marketUid = cachedUids != null
+                ? cachedUids.getMarketUid()
+                : generateMarketUid(eventId, marketType, specifierValue);
+        }
         
         // Convert all selections
-        List<ParsedSelection> parsedSelections = convertSelections(rawMarket.getSelections(), marketType, marketUid);
+        ParsedSelection[] parsedSelections =
+            convertSelections(rawSelections, selectionTypeIds, marketType, marketUid, cachedUids);
         
         // Create ParsedMarket
-        return new ParsedMarket(
+        return ConversionResult.success(new ParsedMarket(
+            eventId,
             marketUid,
             marketType.getTypeId(),
-            specifiers,
+            marketType.getSpecifierType(),
+            specifierValue,
             parsedSelections
-        );
+        ));
     }
     
-    // Extract specifiers based on market type
-    private Map<String, String> extractSpecifiers(RawMarket rawMarket, MarketType marketType) {
-        Map<String, String> specifiers = new HashMap<>();
-        
-        switch (marketType.getSpecifierType()) {
-            case NONE:
-                return specifiers;
-            case TOTAL:
-                String totalValue = extractTotalValue(rawMarket);
-                specifiers.put("total", totalValue);
-                return specifiers;
-            case HCP:
-                String hcpValue = extractHandicapValue(rawMarket);
-                specifiers.put("hcp", hcpValue);
-                return specifiers;
-            default:
-                return specifiers;
+    // Market name, event ID and selection list rules; message or null
+    private String marketError(RawMarket rawMarket) {
+        boolean strict = validation.isStrict();
+        String error = MarketRules.marketNameError(rawMarket.getName(), strict);
+        if (error == null) {
+            error = MarketRules.eventIdError(rawMarket.getEvent_id(), strict);
+        }
+        if (error == null) {
+            error = MarketRules.selectionsError(rawMarket.getSelections(), strict);
         }
+        return error;
+    }
+    
+    // Failure for the first invalid or unknown selection, else for the first selection without odds;
+    // null if all are fine
+    private ConversionResult rejectSelections(List<RawSelection> rawSelections, int[] selectionTypeIds,
+                                              MarketType marketType) {
+        for (int i = 0; i < selectionTypeIds.length; i++) {
+            if (selectionTypeIds[i] == INVALID_SELECTION) {
+                // Capture values, not the selection: the decoder reuses its holders before the message is read
+                RawSelection invalid = rawSelections.get(i);
+                int index = i;
+                boolean strict = validation.isStrict();
+                if (invalid == null) {
+                    return ConversionResult.failure(ErrorCode.VALIDATION_ERROR,
+                        () -> MarketRules.selectionError(null, index, strict));
+                }
+                String name = invalid.getName();
+                boolean hasOdds = invalid.hasOdds();
+                double odds = hasOdds ? invalid.getOddsValue() : 0;
+                return ConversionResult.failure(ErrorCode.VALIDATION_ERROR,
+                    () -> MarketRules.selectionError(name, hasOdds, odds, index, strict));
+            }
+            if (selectionTypeIds[i] == UNKNOWN_SELECTION) {
+                String selectionName = rawSelections.get(i).getName();
+                return ConversionResult.failure(ErrorCode.UNKNOWN_SELECTION_TYPE, () ->
+                    "Unknown selection name: '" + selectionName + 
+                    "' (cleaned: '" + SelectionNameCleaner.clean(selectionName) + "') for market type: " + marketType.name()
+                );
+            }
+        }
+        for (RawSelection rawSelection : rawSelections) {
+            if (!rawSelection.hasOdds()) {
+                String selectionName = rawSelection.getName();
+                return ConversionResult.failure(ErrorCode.CONVERSION_ERROR,
+                    () -> "Missing odds for selection: '" + selectionName + "'");
+            }
+        }
+        return null;
     }
     
     // Generate market UID
-    private String generateMarketUid(String eventId, String marketTypeId, Map<String, String> specifiers) {
+    private String generateMarketUid(String eventId, MarketType marketType, String specifierValue) {
+        Map<String, String> specifiers = specifierValue == null
+            ? Map.of()
+            : Map.of(marketType.getSpecifierType().getKey(), specifierValue);
         UidGenerator.MarketUidParams params = new UidGenerator.MarketUidParams(
             eventId, 
-            marketTypeId, 
+            marketType.getTypeId(), 
             specifiers
         );
         return UidGenerator.generateMarketUid(params);
     }
     
-    // Extract total value from selection names
-    private String extractTotalValue(RawMarket rawMarket) {
-        for (RawSelection selection : rawMarket.getSelections()) {
-            String result = normalizer.extractTotalValue(selection.getName());
-            if (!result.equals("0")) {
-                return result;
-            }
+    // Cached UIDs for the tuple, or null when caching is off or the event ID is missing
+    private UidCache.Entry lookupUids(String eventId, String marketTypeId, String specifierValue) {
+        if (uidCache == null || eventId == null) {
+            return null;
         }
-        return "0";
+        String specifier = specifierValue != null && !specifierValue.trim().isEmpty() ? specifierValue : null;
+        return uidCache.get(eventId, marketTypeId, specifier);
     }
     
-    // Extract handicap value from selection names
-    private String extractHandicapValue(RawMarket rawMarket) {
-        for (RawSelection selection : rawMarket.getSelections()) {
-            String result = normalizer.extractHandicapValue(selection.getName());
-            if (!result.equals("0")) {
-                return result;
+    // Cleans each selection name once, resolves its type ID into selectionTypeIds and
+    // returns the specifier value (null for markets without one).
+    // Stops at the first invalid or unknown selection, whose type ID is set to INVALID_SELECTION or UNKNOWN_SELECTION
+    private String tokenizeSelections(List<RawSelection> rawSelections, MarketType marketType,
+                                      int[] selectionTypeIds) {
+        SpecifierType specifierType = marketType.getSpecifierType();
+        SelectionToken token = new SelectionToken();
+        String specifierValue = null;
+        
+        for (int i = 0; i < selectionTypeIds.length; i++) {
+            RawSelection rawSelection = rawSelections.get(i);
+            if (validation.isEnabled() && MarketRules.selectionError(rawSelection, i, validation.isStrict()) != null) {
+                selectionTypeIds[i] = INVALID_SELECTION;
+                return null;
+            }
+            SelectionNameCleaner.tokenize(rawSelection.getName(), token);
+            if (specifierValue == null) {
+                specifierValue = specifierCandidate(token, specifierType);
+            }
+            
+            int selectionTypeId = marketType.resolveSelectionTypeIdOrMinus1(token);
+            if (selectionTypeId < 0) {
+                selectionTypeIds[i] = UNKNOWN_SELECTION;
+                return null;
             }
+            selectionTypeIds[i] = selectionTypeId;
+        }
+        
+        if (specifierValue == null && specifierType != SpecifierType.NONE) {
+            return "0";
+        }
+        return specifierValue;
+    }
+    
+    // Specifier from one selection, or null to keep looking at the next one.
+    // TOTAL: unsigned number, "2.5" when the name has none; HCP: signed number.
+    // A plain "0" never wins.
+    private static String specifierCandidate(SelectionToken token, SpecifierType specifierType) {
+        switch (specifierType) {
+            case TOTAL:
+                if (!token.hasNumber()) return "2.5";
+                return token.isZero(false) ? null : token.number(false);
+            case HCP:
+                if (!token.hasNumber()) return null;
+                return token.isZero(true) ? null : token.number(true);
+            default:
+                return null;
         }
-        return "0";
     }
     
     // Convert all selections
-    private List<ParsedSelection> convertSelections(List<RawSelection> rawSelections, MarketType marketType, String marketUid) {
-        List<ParsedSelection> parsedSelections = new ArrayList<>();
+    private ParsedSelection[] convertSelections(List<RawSelection> rawSelections, int[] selectionTypeIds,
+                                                MarketType marketType, String marketUid,
+                                                UidCache.Entry cachedUids) {
+        ParsedSelection[] parsedSelections = new ParsedSelection[selectionTypeIds.length];
         
-        for (RawSelection rawSelection : rawSelections) {
-            ParsedSelection parsedSelection = convertSelection(rawSelection, marketType, marketUid);
-            parsedSelections.add(parsedSelection);
+        for (int i = 0; i < selectionTypeIds.length; i++) {
+            parsedSelections[i] =
+                convertSelection(rawSelections.get(i), selectionTypeIds[i], marketType, marketUid, cachedUids);
         }
         
         return parsedSelections;
     }
     
-    // Convert single selection
-    private ParsedSelection convertSelection(RawSelection rawSelection, MarketType marketType, String marketUid) {
-        String cleanName = cleanSelectionName(rawSelection.getName());
-        Optional<Integer> selectionTypeIdOpt = marketType.resolveSelectionTypeId(cleanName);
-        
-        if (selectionTypeIdOpt.isEmpty()) {
-            throw new IllegalArgumentException(
-                "Unknown selection name: '" + rawSelection.getName() + 
-                "' (cleaned: '" + cleanName + "') for market type: " + marketType.name()
-            );
-        }
-        
-        String selectionUid = marketUid + "_" + selectionTypeIdOpt.get();
+    // Convert single selection whose type ID is resolved and whose odds are present
+    private ParsedSelection convertSelection(RawSelection rawSelection, int selectionTypeId, MarketType marketType,
+                                             String marketUid, UidCache.Entry cachedUids) {
+        // Shared per-type string, so the UID is the only new object
+        String selectionTypeIdString = marketType.selectionTypeIdString(selectionTypeId);
+        String selectionUid = cachedUids != null
+            ? cachedUids.selectionUid(selectionTypeIdString)
+            : marketUid + "_" + selectionTypeIdString;
         
         return new ParsedSelection(
             selectionUid,
-            String.valueOf(selectionTypeIdOpt.get()),
-            rawSelection.getOdds()
+            selectionTypeId,
+            rawSelection.getOddsValue()
         );
     }
-    
-    // Remove numbers and special characters from selection name
-    private String cleanSelectionName(String name) {
-        String cleaned = name.toLowerCase().trim();
-        cleaned = cleaned.replaceAll("[+-]?\\d+(?:\\.\\d+)?", "").trim();
-        cleaned = cleaned.replaceAll("\\s+", " ").trim();
-        return cleaned;
-    }
 }
@@ -0,0 +1,132 @@
+package sportbet.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import sportbet.errors.DomainException;
+import sportbet.errors.ErrorCode;
+import sportbet.metrics.ConversionMetrics;
+import sportbet.model.RawMarket;
+
+// Converts markets on a fixed pool of worker threads, keeping input order in the results
+public class ParallelMarketConverter implements AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final MarketConverter converter;
+    private final int threads;
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final ConversionMetrics metrics;
+
+    public ParallelMarketConverter(MarketConverter converter, int threads) {
+        this(converter, threads, DEFAULT_BATCH_SIZE, null);
+    }
+
+    public ParallelMarketConverter(MarketConverter converter, int threads, int batchSize) {
+        this(converter, threads, batchSize, null);
+    }
+
+    // metrics may be null; when set every convert call is timed as Stage.CONVERT
+    public ParallelMarketConverter(MarketConverter converter, int threads, int batchSize, ConversionMetrics metrics) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1: " + threads);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1: " + batchSize);
+        }
+        this.converter = converter;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.metrics = metrics;
+        this.executor = threads == 1 ? null : Executors.newFixedThreadPool(threads, workerFactory());
+    }
+
+    // Number of markets worth handing over per call to keep every worker busy
+    public int getWindowSize() {
+        return threads * batchSize;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // Converts all markets; result i belongs to markets.get(i)
+    public List<ConversionResult> convertAll(List<RawMarket> markets) {
+        if (executor == null || markets.size() <= batchSize) {
+            return convertBatch(markets);
+        }
+
+        List<Future<List<ConversionResult>>> futures = new ArrayList<>();
+        for (int from = 0; from < markets.size(); from += batchSize) {
+            List<RawMarket> batch = markets.subList(from, Math.min(from + batchSize, markets.size()));
+            futures.add(executor.submit(() -> convertBatch(batch)));
+        }
+
+        List<ConversionResult> results = new ArrayList<>(markets.size());
+        try {
+            for (Future<List<ConversionResult>> future : futures) {
+                results.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new DomainException(ErrorCode.CONVERSION_ERROR, "Interrupted while converting markets", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "Conversion worker failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return results;
+    }
+
+    private List<ConversionResult> convertBatch(List<RawMarket> batch) {
+        List<ConversionResult> results = new ArrayList<>(batch.size());
+        for (RawMarket rawMarket : batch) {
+            results.add(convert(rawMarket));
+        }
+        return results;
+    }
+
+    // Converts one market on the calling thread, for callers that run their own workers;
+    // unexpected exceptions become CONVERSION_ERROR results
+    public ConversionResult convert(RawMarket rawMarket) {
+        long start = metrics == null ? 0 : System.nanoTime();
+        ConversionResult result;
+        try {
+            result = converter.tryConvert(rawMarket);
+        } catch (Exception e) {
+            result = ConversionResult.failure(e);
+        }
+        if (metrics != null) {
+            metrics.recordLatency(ConversionMetrics.Stage.CONVERT, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory workerFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "market-converter-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
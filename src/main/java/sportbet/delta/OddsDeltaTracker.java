@@ -0,0 +1,204 @@
+package sportbet.delta;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import sportbet.errors.DomainException;
+import sportbet.errors.ErrorCode;
+import sportbet.model.ParsedMarket;
+import sportbet.model.ParsedSelection;
+import sportbet.uid.UidGenerator;
+
+/**
+ * Tracks the last decimal_odds per selection_uid across feed snapshots and
+ * decides which converted markets actually need to be emitted.
+ * 
+ * A market is emitted when it is new, when any selection is new or has
+ * different odds, or when its number of selections changed. Markets that were
+ * in the previous snapshot but not in this one are returned by
+ * {@link #endSnapshot()} as tombstones: the market_uid and market_type_id
+ * with empty specifiers and an empty selections array.
+ * 
+ * Not thread-safe; feed it from the single writer thread.
+ */
+public class OddsDeltaTracker {
+
+    private static final int FILE_MAGIC = 0x53424454; // "SBDT"
+    private static final int FILE_VERSION = 1;
+
+    private final StampedStringLongMap selectionOdds;   // selection_uid -> odds bits
+    private final StampedStringLongMap marketSelections; // market_uid -> selection count
+    private int stamp;
+
+    private long changedMarkets;
+    private long unchangedMarkets;
+    private long removedMarkets;
+
+    public OddsDeltaTracker() {
+        this(new StampedStringLongMap(), new StampedStringLongMap(), 0);
+    }
+
+    private OddsDeltaTracker(StampedStringLongMap selectionOdds, StampedStringLongMap marketSelections, int stamp) {
+        this.selectionOdds = selectionOdds;
+        this.marketSelections = marketSelections;
+        this.stamp = stamp;
+    }
+
+    /**
+     * Starts a new snapshot. Markets not accepted before the matching
+     * {@link #endSnapshot()} count as removed.
+     */
+    public void beginSnapshot() {
+        stamp++;
+        changedMarkets = 0;
+        unchangedMarkets = 0;
+        removedMarkets = 0;
+    }
+
+    /**
+     * Records the market's odds and tells whether it should be emitted.
+     * 
+     * @param market converted market of the current snapshot
+     * @return true when the market is new or changed since the last snapshot
+     */
+    public boolean accept(ParsedMarket market) {
+        int count = market.getSelectionCount();
+
+        int marketSlot = marketSelections.find(market.getMarket_uid());
+        boolean changed = marketSlot < 0 || marketSelections.valueAt(marketSlot) != count;
+        marketSelections.put(market.getMarket_uid(), count, stamp);
+
+        for (int i = 0; i < count; i++) {
+            ParsedSelection selection = market.getSelection(i);
+            long odds = Double.doubleToLongBits(selection.getDecimal_odds());
+            int slot = selectionOdds.find(selection.getSelection_uid());
+            if (slot < 0 || selectionOdds.valueAt(slot) != odds) {
+                changed = true;
+            }
+            selectionOdds.put(selection.getSelection_uid(), odds, stamp);
+        }
+
+        if (changed) {
+            changedMarkets++;
+        } else {
+            unchangedMarkets++;
+        }
+        return changed;
+    }
+
+    /**
+     * Ends the snapshot: returns tombstones for markets that disappeared and
+     * forgets them, together with their selections.
+     */
+    public List<ParsedMarket> endSnapshot() {
+        List<ParsedMarket> removed = new ArrayList<>();
+        marketSelections.forEach((marketUid, count, entryStamp) -> {
+            if (entryStamp != stamp) {
+                removed.add(tombstone(marketUid));
+            }
+        });
+        removedMarkets = removed.size();
+
+        marketSelections.retainStamp(stamp);
+        selectionOdds.retainStamp(stamp);
+        return removed;
+    }
+
+    public long getChangedMarkets() {
+        return changedMarkets;
+    }
+
+    public long getUnchangedMarkets() {
+        return unchangedMarkets;
+    }
+
+    public long getRemovedMarkets() {
+        return removedMarkets;
+    }
+
+    public int getTrackedSelections() {
+        return selectionOdds.size();
+    }
+
+    /**
+     * Loads state saved by {@link #save(Path)}; a missing file gives an empty tracker.
+     */
+    public static OddsDeltaTracker load(Path file) {
+        if (!Files.exists(file)) {
+            return new OddsDeltaTracker();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                throw new DomainException(ErrorCode.JSON_INVALID_SHAPE,
+                        "Not a delta state file: " + file.toAbsolutePath());
+            }
+            int stamp = in.readInt();
+            StampedStringLongMap markets = readMap(in, stamp);
+            StampedStringLongMap selections = readMap(in, stamp);
+            return new OddsDeltaTracker(selections, markets, stamp);
+        } catch (IOException e) {
+            throw new DomainException(ErrorCode.JSON_PARSE_ERROR,
+                    "Failed to read delta state: " + file.toAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Saves the state of the last finished snapshot, replacing the file atomically.
+     */
+    public void save(Path file) {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeInt(stamp);
+                writeMap(out, marketSelections);
+                writeMap(out, selectionOdds);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "Failed to write delta state: " + file.toAbsolutePath(), e);
+        }
+    }
+
+    private static void writeMap(DataOutputStream out, StampedStringLongMap map) throws IOException {
+        out.writeInt(map.size());
+        IOException[] failure = new IOException[1];
+        map.forEach((key, value, entryStamp) -> {
+            if (failure[0] != null) return;
+            try {
+                out.writeUTF(key);
+                out.writeLong(value);
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) throw failure[0];
+    }
+
+    private static StampedStringLongMap readMap(DataInputStream in, int stamp) throws IOException {
+        int size = in.readInt();
+        StampedStringLongMap map = new StampedStringLongMap(size);
+        for (int i = 0; i < size; i++) {
+            map.put(in.readUTF(), in.readLong(), stamp);
+        }
+        return map;
+    }
+
+    private static ParsedMarket tombstone(String marketUid) {
+        String marketTypeId = UidGenerator.isValidMarketUid(marketUid)
+                ? UidGenerator.extractMarketTypeId(marketUid)
+                : null;
+        return new ParsedMarket(marketUid, marketTypeId, Map.of(), List.of());
+    }
+}
@@ -0,0 +1,134 @@
+package sportbet.delta;
+
+/**
+ * Open-addressing map from String to a primitive long, where each entry also
+ * records the snapshot stamp it was last written in. Entries not touched in
+ * the current snapshot can then be listed and dropped in one sweep.
+ * 
+ * Keys, values and stamps live in three parallel arrays, so an entry costs
+ * one reference plus 12 bytes instead of a HashMap node and a boxed value.
+ * Not thread-safe.
+ */
+final class StampedStringLongMap {
+
+    interface EntryVisitor {
+        void visit(String key, long value, int stamp);
+    }
+
+    // Stamp value that rehash() treats as "keep every entry"; snapshots never use it
+    private static final int KEEP_ALL = Integer.MIN_VALUE;
+
+    private String[] keys;
+    private long[] values;
+    private int[] stamps;
+    private int size;
+
+    StampedStringLongMap() {
+        this(16);
+    }
+
+    StampedStringLongMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot holding the key, or a negative value when absent.
+     */
+    int find(String key) {
+        int mask = keys.length - 1;
+        for (int slot = spread(key.hashCode()) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot].equals(key)) return slot;
+        }
+        return -1;
+    }
+
+    long valueAt(int slot) {
+        return values[slot];
+    }
+
+    int stampAt(int slot) {
+        return stamps[slot];
+    }
+
+    void put(String key, long value, int stamp) {
+        int slot = find(key);
+        if (slot >= 0) {
+            values[slot] = value;
+            stamps[slot] = stamp;
+            return;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2, KEEP_ALL);
+        }
+        insert(key, value, stamp);
+        size++;
+    }
+
+    void forEach(EntryVisitor visitor) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                visitor.visit(keys[slot], values[slot], stamps[slot]);
+            }
+        }
+    }
+
+    /**
+     * Drops every entry whose stamp differs from the given one.
+     */
+    void retainStamp(int stamp) {
+        int live = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null && stamps[slot] == stamp) live++;
+        }
+        rehash(capacityFor(live), stamp);
+    }
+
+    // Rebuilds the table at the new capacity, keeping all entries or only those with keepStamp
+    private void rehash(int capacity, int keepStamp) {
+        String[] oldKeys = keys;
+        long[] oldValues = values;
+        int[] oldStamps = stamps;
+        allocate(capacity);
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != null && (keepStamp == KEEP_ALL || oldStamps[slot] == keepStamp)) {
+                insert(oldKeys[slot], oldValues[slot], oldStamps[slot]);
+                size++;
+            }
+        }
+    }
+
+    private void insert(String key, long value, int stamp) {
+        int mask = keys.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        stamps[slot] = stamp;
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new long[capacity];
+        stamps = new int[capacity];
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return Integer.highestOneBit(Math.max(8, expectedSize * 2 - 1)) << 1;
+    }
+
+    // Murmur3 finalizer, UIDs share long prefixes and differ only at the end
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+}
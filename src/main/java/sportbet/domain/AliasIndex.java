@@ -0,0 +1,125 @@
+package sportbet.domain;
+
+import java.util.Arrays;
+
+import sportbet.normalize.AsciiText;
+
+/**
+ * Immutable open-addressing table from lowercase names to int values.
+ * 
+ * Lookups are trimmed and case-insensitive and hash the characters in place,
+ * so resolving an ASCII name allocates nothing and costs one hash plus a
+ * probe or two, independent of how many names the table holds. Non-ASCII
+ * names take the same path after a String#trim().toLowerCase() copy.
+ */
+public final class AliasIndex {
+
+    public static final int NOT_FOUND = -1;
+
+    private final String[] keys;
+    private final int[] values;
+    private final int mask;
+    private final int size;
+
+    /**
+     * Builds the index. Names are trimmed and lowercased; on duplicates the first one wins.
+     * 
+     * @param names names to index
+     * @param values value for each name, must not be negative
+     */
+    public AliasIndex(String[] names, int[] values) {
+        if (names.length != values.length) {
+            throw new IllegalArgumentException("names and values must have the same length");
+        }
+        int capacity = Integer.highestOneBit(Math.max(4, names.length * 2 - 1)) << 1;
+        this.keys = new String[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(this.values, NOT_FOUND);
+
+        int count = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (values[i] < 0) {
+                throw new IllegalArgumentException("value must not be negative: " + values[i]);
+            }
+            String key = names[i].trim().toLowerCase();
+            int slot = spread(key.hashCode()) & mask;
+            while (keys[slot] != null && !keys[slot].equals(key)) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == null) {
+                keys[slot] = key;
+                this.values[slot] = values[i];
+                count++;
+            }
+        }
+        this.size = count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value for the name, ignoring case and surrounding whitespace.
+     * 
+     * @param name name to resolve, may be null
+     * @return the value, or {@link #NOT_FOUND}
+     */
+    public int get(CharSequence name) {
+        if (name == null) return NOT_FOUND;
+        return get(name, 0, name.length());
+    }
+
+    /**
+     * Same as {@link #get(CharSequence)} for the characters in [from, to).
+     */
+    public int get(CharSequence name, int from, int to) {
+        // Same bounds as String#trim
+        while (from < to && name.charAt(from) <= ' ') from++;
+        while (to > from && name.charAt(to - 1) <= ' ') to--;
+
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            char c = name.charAt(i);
+            if (AsciiText.needsLocaleLowerCase(c)) {
+                return getSlow(name.subSequence(from, to).toString().toLowerCase());
+            }
+            hash = 31 * hash + AsciiText.toLowerCase(c);
+        }
+
+        int length = to - from;
+        for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(keys[slot], name, from, length)) {
+                return values[slot];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private int getSlow(String key) {
+        for (int slot = spread(key.hashCode()) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot].equals(key)) {
+                return values[slot];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static boolean matches(String key, CharSequence name, int from, int length) {
+        if (key.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != AsciiText.toLowerCase(name.charAt(from + i))) return false;
+        }
+        return true;
+    }
+
+    // Murmur3 finalizer: String#hashCode alone clusters badly for names like "type 001", "type 002"
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -64,6 +64,12 @@ public enum MarketType {
     private final SpecifierType specifierType;
     private final Map<String, Integer> selectionMap;   
     private final Set<String> aliasSet;                 
+    private final AliasIndex selectionIndex;
+    private final int[] selectionTypeIds;
+    private final String[] selectionTypeIdStrings;
+
+    private static final MarketType[] VALUES = values();
+    private static final AliasIndex NAME_INDEX = buildNameIndex();
 
     MarketType(String typeId,
                SpecifierType specifierType,
@@ -73,6 +79,17 @@ public enum MarketType {
         this.specifierType = specifierType;
         this.selectionMap = Collections.unmodifiableMap(normalizeSelectionMap(rawSelectionMap));
         this.aliasSet = Collections.unmodifiableSet(normalizeAliases(rawAliases));
+
+        String[] names = selectionMap.keySet().toArray(new String[0]);
+        int[] ids = new int[names.length];
+        for (int i = 0; i < names.length; i++) ids[i] = selectionMap.get(names[i]);
+        this.selectionIndex = new AliasIndex(names, ids);
+
+        this.selectionTypeIds = selectionMap.values().stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+        this.selectionTypeIdStrings = new String[selectionTypeIds.length];
+        for (int i = 0; i < selectionTypeIds.length; i++) {
+            selectionTypeIdStrings[i] = String.valueOf(selectionTypeIds[i]).intern();
+        }
     }
 
     // Returns market type ID
@@ -87,20 +104,50 @@ public enum MarketType {
 
     // Maps selection name to selection type ID
     public Optional<Integer> resolveSelectionTypeId(String selectionName) {
-        String key = normalizeSelection(selectionName);
-        return Optional.ofNullable(selectionMap.get(key));
+        int id = resolveSelectionTypeIdOrMinus1(selectionName);
+        return id < 0 ? Optional.empty() : Optional.of(id);
+    }
+
+    // Same as resolveSelectionTypeId without boxing; -1 when the name is unknown
+    public int resolveSelectionTypeIdOrMinus1(CharSequence selectionName) {
+        return selectionIndex.get(selectionName);
+    }
+
+    // Shared interned string form of one of this type's selection type IDs
+    public String selectionTypeIdString(int selectionTypeId) {
+        for (int i = 0; i < selectionTypeIds.length; i++) {
+            if (selectionTypeIds[i] == selectionTypeId) return selectionTypeIdStrings[i];
+        }
+        return String.valueOf(selectionTypeId);
     }
 
     // Finds market type by exact name match
     public static Optional<MarketType> fromName(String marketName) {
-        if (marketName == null) return Optional.empty();
-        String n = normalizeBasic(marketName);
-        for (MarketType mt : values()) {
+        return Optional.ofNullable(lookup(marketName));
+    }
+
+    // Same as fromName, but returns null when unknown and allocates nothing
+    public static MarketType lookup(CharSequence marketName) {
+        int ordinal = NAME_INDEX.get(marketName);
+        return ordinal == AliasIndex.NOT_FOUND ? null : VALUES[ordinal];
+    }
+
+    // Alias -> ordinal for every market type, built once
+    private static AliasIndex buildNameIndex() {
+        int count = 0;
+        for (MarketType mt : VALUES) count += mt.aliasSet.size();
+
+        String[] names = new String[count];
+        int[] ordinals = new int[count];
+        int i = 0;
+        for (MarketType mt : VALUES) {
             for (String alias : mt.aliasSet) {
-                if (alias.equals(n)) return Optional.of(mt);
+                names[i] = alias;
+                ordinals[i] = mt.ordinal();
+                i++;
             }
         }
-        return Optional.empty();
+        return new AliasIndex(names, ordinals);
     }
 
     // Normalize selection map and add short aliases
@@ -119,14 +166,6 @@ public enum MarketType {
         return s;
     }
 
-    // Handle short aliases for selections
-    private static String normalizeSelection(String s) {
-        String n = normalizeBasic(s);
-        if (n.equals("o")) return "over";
-        if (n.equals("u")) return "under";
-        return n;
-    }
-
     // Basic normalization: trim and lowercase
     private static String normalizeBasic(String s) {
         return (s == null) ? "" : s.trim().toLowerCase();
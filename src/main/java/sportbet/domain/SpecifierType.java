@@ -1,6 +1,25 @@
 package sportbet.domain;
 
-// Market specifier types: NONE, TOTAL, HCP
+// Market specifier types: NONE, TOTAL, HCP, with their key in the output "specifiers" object
 public enum SpecifierType {
-    NONE, TOTAL, HCP
+    NONE(null), TOTAL("total"), HCP("hcp");
+
+    private final String key;
+
+    SpecifierType(String key) {
+        this.key = key;
+    }
+
+    // Key in the specifiers object, null for NONE
+    public String getKey() {
+        return key;
+    }
+
+    // Type whose key is the given one; null when there is none
+    public static SpecifierType fromKey(String key) {
+        for (SpecifierType type : values()) {
+            if (type.key != null && type.key.equals(key)) return type;
+        }
+        return null;
+    }
 }
@@ -0,0 +1,103 @@
+package sportbet.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded negative cache of raw market names that MarketType does not map.
+ *
+ * Keys are the exact raw strings, so a repeated unknown name is rejected with
+ * one hash lookup instead of a trimmed, case-insensitive index probe. Names
+ * that differ only in case or spacing take one entry each. Every hit is
+ * counted per name, which gives the most frequently rejected names. Once the
+ * cache holds maxNames entries, new names are not admitted, and their
+ * rejects are only counted in total. Safe to share across threads.
+ */
+public final class UnmappedMarketNames {
+
+    public static final int DEFAULT_MAX_NAMES = 1024;
+
+    private final int maxNames;
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder untracked = new LongAdder();
+
+    public UnmappedMarketNames() {
+        this(DEFAULT_MAX_NAMES);
+    }
+
+    public UnmappedMarketNames(int maxNames) {
+        if (maxNames < 1) {
+            throw new IllegalArgumentException("maxNames must be at least 1: " + maxNames);
+        }
+        this.maxNames = maxNames;
+    }
+
+    /**
+     * Market type for a raw name, consulting and filling the cache.
+     *
+     * @param marketName raw market name; null is looked up without caching
+     * @return the market type, or null when the name is unmapped
+     */
+    public MarketType lookup(String marketName) {
+        if (marketName == null) {
+            return MarketType.lookup(null);
+        }
+        LongAdder count = counts.get(marketName);
+        if (count != null) {
+            count.increment();
+            hits.increment();
+            return null;
+        }
+        MarketType marketType = MarketType.lookup(marketName);
+        if (marketType == null) {
+            record(marketName);
+        }
+        return marketType;
+    }
+
+    // Admits a newly seen unmapped name while there is room; racing threads may overshoot maxNames slightly
+    private void record(String marketName) {
+        if (counts.size() >= maxNames) {
+            untracked.increment();
+            return;
+        }
+        counts.computeIfAbsent(marketName, name -> new LongAdder()).increment();
+    }
+
+    /**
+     * The most frequently rejected names, most frequent first.
+     *
+     * @param limit maximum number of names returned
+     * @return name and reject count pairs
+     */
+    public List<Map.Entry<String, Long>> top(int limit) {
+        List<Map.Entry<String, Long>> names = new ArrayList<>(counts.size());
+        counts.forEach((name, count) -> names.add(Map.entry(name, count.sum())));
+        names.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        return names.subList(0, Math.min(limit, names.size()));
+    }
+
+    // Rejects answered from the cache without a MarketType lookup
+    public long getHits() {
+        return hits.sum();
+    }
+
+    // Rejects of names that arrived after the cache was full
+    public long getUntracked() {
+        return untracked.sum();
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    @Override
+    public String toString() {
+        return "UnmappedMarketNames{size=" + size() + "/" + maxNames + ", hits=" + getHits()
+                + ", untracked=" + getUntracked() + "}";
+    }
+}
@@ -0,0 +1,188 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import sportbet.errors.FileFormatException;
+import sportbet.errors.JsonReadException;
+import sportbet.errors.MissingFileException;
+
+/**
+  Memory-mapped view of a columnar odds file written by {@link ColumnarOddsWriter}.
+  One row per converted selection, in output order. All numbers are little-endian:
+
+  <pre>
+  offset 0   8 bytes        magic "SBODDS01"
+         8   int            row count R
+         12  int            dictionary size D (distinct selection UIDs)
+         16  long           dictionary byte length B
+         24  long           reserved, 0
+         32  double[R]      decimal_odds
+             int[R]         selection_uid as an index into the dictionary
+             int[R]         selection_type_id
+             int[D + 1]     start of each UID in the dictionary bytes; the last entry is B
+             byte[B]        UTF-8 UIDs, back to back
+  </pre>
+
+  The columns are exposed as read-only buffers over the mapping, so a scan
+  reads odds straight from the page cache without parsing or allocating.
+  The file handle is released on open; the mappings live until garbage
+  collected. Instances are immutable and thread-safe for absolute reads.
+**/
+
+public final class ColumnarOddsFile {
+
+    static final byte[] MAGIC = "SBODDS01".getBytes(StandardCharsets.US_ASCII);
+    static final int HEADER_SIZE = 32;
+
+    private final int rowCount;
+    private final int dictionarySize;
+    private final DoubleBuffer odds;
+    private final IntBuffer uidIds;
+    private final IntBuffer typeIds;
+    private final IntBuffer dictionaryOffsets;
+    private final ByteBuffer dictionary;
+
+    private ColumnarOddsFile(int rowCount, int dictionarySize, DoubleBuffer odds, IntBuffer uidIds,
+                             IntBuffer typeIds, IntBuffer dictionaryOffsets, ByteBuffer dictionary) {
+        this.rowCount = rowCount;
+        this.dictionarySize = dictionarySize;
+        this.odds = odds;
+        this.uidIds = uidIds;
+        this.typeIds = typeIds;
+        this.dictionaryOffsets = dictionaryOffsets;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Maps a columnar odds file read-only.
+     *
+     * @throws MissingFileException if the file does not exist or is not readable
+     * @throws FileFormatException if the header or the section sizes do not match
+     */
+    public static ColumnarOddsFile open(Path file) {
+        if (!Files.exists(file) || !Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new MissingFileException("Input file not found / not a regular file / not readable: "
+                    + file.toAbsolutePath());
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new FileFormatException("Not a columnar odds file (too short): " + file.toAbsolutePath());
+            }
+            ByteBuffer header = map(channel, 0, HEADER_SIZE);
+            byte[] magic = new byte[MAGIC.length];
+            header.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new FileFormatException("Not a columnar odds file (bad magic): " + file.toAbsolutePath());
+            }
+            int rows = header.getInt();
+            int dictionarySize = header.getInt();
+            long dictionaryBytes = header.getLong();
+            if (rows < 0 || dictionarySize < 0 || dictionaryBytes < 0 || dictionaryBytes > Integer.MAX_VALUE
+                    || size != fileSize(rows, dictionarySize, dictionaryBytes)) {
+                throw new FileFormatException("Columnar odds file is truncated or corrupt: " + file.toAbsolutePath());
+            }
+
+            long position = HEADER_SIZE;
+            DoubleBuffer odds = map(channel, position, (long) rows * Double.BYTES).asDoubleBuffer();
+            position += (long) rows * Double.BYTES;
+            IntBuffer uidIds = map(channel, position, (long) rows * Integer.BYTES).asIntBuffer();
+            position += (long) rows * Integer.BYTES;
+            IntBuffer typeIds = map(channel, position, (long) rows * Integer.BYTES).asIntBuffer();
+            position += (long) rows * Integer.BYTES;
+            IntBuffer offsets = map(channel, position, (dictionarySize + 1L) * Integer.BYTES).asIntBuffer();
+            position += (dictionarySize + 1L) * Integer.BYTES;
+            ByteBuffer dictionary = map(channel, position, dictionaryBytes);
+
+            return new ColumnarOddsFile(rows, dictionarySize, odds, uidIds, typeIds, offsets, dictionary);
+        } catch (IOException e) {
+            throw new JsonReadException("Failed to read columnar odds file: " + file.toAbsolutePath(), e);
+        }
+    }
+
+    // Exact size of a file with these counts; the layout has no padding
+    static long fileSize(int rows, int dictionarySize, long dictionaryBytes) {
+        return HEADER_SIZE + (long) rows * (Double.BYTES + 2 * Integer.BYTES)
+                + (dictionarySize + 1L) * Integer.BYTES + dictionaryBytes;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new FileFormatException("Columnar section larger than 2 GB is not supported: " + length + " bytes");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return Number of distinct selection UIDs
+     */
+    public int getDictionarySize() {
+        return dictionarySize;
+    }
+
+    public double getOdds(int row) {
+        return odds.get(row);
+    }
+
+    public int getSelectionTypeId(int row) {
+        return typeIds.get(row);
+    }
+
+    /**
+     * @return Dictionary index of the row's selection UID, see {@link #getDictionaryValue(int)}
+     */
+    public int getUidId(int row) {
+        return uidIds.get(row);
+    }
+
+    /**
+     * Decodes the row's selection UID; allocates a String, unlike the column getters.
+     */
+    public String getSelectionUid(int row) {
+        return getDictionaryValue(uidIds.get(row));
+    }
+
+    public String getDictionaryValue(int uidId) {
+        int start = dictionaryOffsets.get(uidId);
+        int end = dictionaryOffsets.get(uidId + 1);
+        byte[] bytes = new byte[end - start];
+        dictionary.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return Read-only view of the whole odds column; independent position per call
+     */
+    public DoubleBuffer oddsColumn() {
+        return odds.asReadOnlyBuffer();
+    }
+
+    /**
+     * @return Read-only view of the whole selection type ID column
+     */
+    public IntBuffer selectionTypeIdColumn() {
+        return typeIds.asReadOnlyBuffer();
+    }
+
+    /**
+     * @return Read-only view of the whole dictionary-encoded UID column
+     */
+    public IntBuffer uidIdColumn() {
+        return uidIds.asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,176 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import sportbet.errors.DomainException;
+import sportbet.errors.ErrorCode;
+import sportbet.model.ParsedMarket;
+import sportbet.model.ParsedSelection;
+
+/**
+  Writer that stores converted selections as columns: decimal_odds as doubles,
+  selection_type_id as ints and selection_uid dictionary-encoded, in the layout
+  described by {@link ColumnarOddsFile}. Market-level fields are not exported.
+  Columns are collected in primitive arrays (16 bytes per selection plus the
+  UID dictionary) and written out on {@link #commit()}, since every column's
+  offset depends on the total row count. Not thread-safe.
+**/
+
+public class ColumnarOddsWriter implements MarketWriter {
+
+    private static final int INITIAL_ROWS = 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final Path target;
+    private final Path tempPath;
+
+    private int rows;
+    private double[] odds = new double[INITIAL_ROWS];
+    private int[] uidIds = new int[INITIAL_ROWS];
+    private int[] typeIds = new int[INITIAL_ROWS];
+
+    private final Map<String, Integer> dictionaryIds = new HashMap<>();
+    private int[] dictionaryOffsets = new int[INITIAL_ROWS + 1];
+    private byte[] dictionary = new byte[INITIAL_ROWS * 16];
+    private int dictionaryLength;
+
+    private boolean committed;
+
+    public ColumnarOddsWriter(Path target) {
+        this.target = target;
+        this.tempPath = target.resolveSibling(target.getFileName() + ".tmp");
+    }
+
+    @Override
+    public void write(ParsedMarket market) {
+        for (int i = 0; i < market.getSelectionCount(); i++) {
+            ParsedSelection selection = market.getSelection(i);
+            if (rows == odds.length) {
+                int capacity = odds.length * 2;
+                odds = Arrays.copyOf(odds, capacity);
+                uidIds = Arrays.copyOf(uidIds, capacity);
+                typeIds = Arrays.copyOf(typeIds, capacity);
+            }
+            odds[rows] = selection.getDecimal_odds();
+            uidIds[rows] = dictionaryId(selection.getSelection_uid());
+            typeIds[rows] = selection.getSelection_type_id();
+            rows++;
+        }
+    }
+
+    // Index of the UID in the dictionary, appending it on first sight
+    private int dictionaryId(String uid) {
+        Integer id = dictionaryIds.get(uid);
+        if (id != null) {
+            return id;
+        }
+        int newId = dictionaryIds.size();
+        byte[] bytes = uid.getBytes(StandardCharsets.UTF_8);
+        if ((long) dictionaryLength + bytes.length > Integer.MAX_VALUE - 8) {
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "UID dictionary exceeds 2 GB: " + target.toAbsolutePath());
+        }
+        if (dictionaryLength + bytes.length > dictionary.length) {
+            dictionary = Arrays.copyOf(dictionary,
+                    (int) Math.min(Integer.MAX_VALUE - 8, Math.max(dictionary.length * 2L, dictionaryLength + bytes.length)));
+        }
+        System.arraycopy(bytes, 0, dictionary, dictionaryLength, bytes.length);
+        dictionaryLength += bytes.length;
+        if (newId + 2 > dictionaryOffsets.length) {
+            dictionaryOffsets = Arrays.copyOf(dictionaryOffsets, dictionaryOffsets.length * 2);
+        }
+        dictionaryOffsets[newId + 1] = dictionaryLength;
+        dictionaryIds.put(uid, newId);
+        return newId;
+    }
+
+    @Override
+    public void commit() {
+        int dictionarySize = dictionaryIds.size();
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(ColumnarOddsFile.MAGIC)
+                    .putInt(rows)
+                    .putInt(dictionarySize)
+                    .putLong(dictionaryLength)
+                    .putLong(0L);
+            for (int i = 0; i < rows; i++) {
+                ensureRoom(channel, buffer, Double.BYTES).putDouble(odds[i]);
+            }
+            for (int i = 0; i < rows; i++) {
+                ensureRoom(channel, buffer, Integer.BYTES).putInt(uidIds[i]);
+            }
+            for (int i = 0; i < rows; i++) {
+                ensureRoom(channel, buffer, Integer.BYTES).putInt(typeIds[i]);
+            }
+            for (int i = 0; i <= dictionarySize; i++) {
+                ensureRoom(channel, buffer, Integer.BYTES).putInt(dictionaryOffsets[i]);
+            }
+            drain(channel, buffer);
+            ByteBuffer bytes = ByteBuffer.wrap(dictionary, 0, dictionaryLength);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            deleteQuietly(tempPath);
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "Failed to write output file: " + target.toAbsolutePath(), e);
+        }
+
+        try {
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
+            committed = true;
+        } catch (IOException e) {
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "Failed to write output file: " + target.toAbsolutePath(), e);
+        }
+    }
+
+    private static ByteBuffer ensureRoom(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drain(channel, buffer);
+        }
+        return buffer;
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Discards the collected rows; nothing is written before {@link #commit()}.
+     */
+    @Override
+    public void close() {
+        if (committed) return;
+        deleteQuietly(tempPath);
+        odds = null;
+        uidIds = null;
+        typeIds = null;
+        dictionary = null;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // a stale temp file is overwritten on the next run
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package sportbet.io;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import sportbet.errors.DomainException;
+import sportbet.errors.ErrorCode;
+import sportbet.model.ParsedMarket;
+import sportbet.uid.EventIdIndex;
+import sportbet.uid.UidGenerator;
+
+/**
+  Writer that groups converted markets by event ID:
+
+  <pre>
+  [ {"event_id": "123", "markets": [ ...markets of event 123 in input order... ]},
+    {"event_id": "456", "markets": [ ... ]} ]
+  </pre>
+
+  Events appear in the order they were first seen. The event ID is the raw
+  market's, as kept by {@link ParsedMarket#getEventId()}, so IDs that contain
+  '_' group correctly; markets without one, such as hand-built ones, fall back
+  to the market UID prefix. Numeric IDs are grouped through an {@link EventIdIndex},
+  other IDs through a string map. Next to the data file an {@link EventIndex} file
+  records the byte offset and length of every event object, so a consumer can
+  read one event without parsing the rest.
+
+  Markets arrive in input order, so they are first spilled as Smile to a
+  scratch file and only their spill offsets are kept in memory (16 bytes per
+  market). {@link #commit()} copies them back event by event into the data
+  file. Not thread-safe.
+**/
+
+public class EventGroupingMarketWriter implements MarketWriter {
+
+    private static final int BUFFER_SIZE = JacksonStreamingMarketWriter.DEFAULT_BUFFER_SIZE;
+    private static final int INITIAL_MARKETS = 1024;
+    private static final int INITIAL_EVENTS = 64;
+    private static final int NO_MARKET = -1;
+
+    private final ObjectMapper mapper;
+    private final Path target;
+    private final Path tempPath;
+    private final Path indexPath;
+    private final Path indexTempPath;
+    private final Path spillPath;
+
+    // Spilled markets: Smile bytes at spillOffsets[m], spillLengths[m] long, next market of the same event
+    private final SmileFactory spillFactory = new SmileFactory();
+    private final ObjectWriter spillWriter;
+    private final OutputStream spill;
+    private long spillPosition;
+    private int markets;
+    private long[] spillOffsets = new long[INITIAL_MARKETS];
+    private int[] spillLengths = new int[INITIAL_MARKETS];
+    private int[] nextMarket = new int[INITIAL_MARKETS];
+
+    // Events in first-seen order: ID text, first and last market, market count
+    private final EventIdIndex numericEvents = new EventIdIndex();
+    private int[] numericSlotEvents = new int[INITIAL_EVENTS];
+    private final Map<String, Integer> otherEvents = new HashMap<>();
+    private int events;
+    private String[] eventIds = new String[INITIAL_EVENTS];
+    private int[] firstMarket = new int[INITIAL_EVENTS];
+    private int[] lastMarket = new int[INITIAL_EVENTS];
+    private int[] eventMarkets = new int[INITIAL_EVENTS];
+
+    private boolean committed;
+    private boolean spillClosed;
+
+    public EventGroupingMarketWriter(ObjectMapper mapper, Path target) {
+        this.mapper = mapper;
+        this.target = target;
+        this.tempPath = target.resolveSibling(target.getFileName() + ".tmp");
+        this.indexPath = EventIndex.pathFor(target);
+        this.indexTempPath = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        this.spillPath = target.resolveSibling(target.getFileName() + ".spill");
+        this.spillWriter = new ObjectMapper(spillFactory).writer();
+        try {
+            this.spill = new BufferedOutputStream(Files.newOutputStream(spillPath), BUFFER_SIZE);
+        } catch (IOException e) {
+            deleteQuietly(spillPath);
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "Failed to open output file: " + target.toAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public void write(ParsedMarket market) {
+        byte[] bytes;
+        try {
+            bytes = spillWriter.writeValueAsBytes(market);
+            spill.write(bytes);
+        } catch (IOException e) {
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "Failed to write output file: " + target.toAbsolutePath(), e);
+        }
+        if (markets == spillOffsets.length) {
+            int capacity = markets * 2;
+            spillOffsets = Arrays.copyOf(spillOffsets, capacity);
+            spillLengths = Arrays.copyOf(spillLengths, capacity);
+            nextMarket = Arrays.copyOf(nextMarket, capacity);
+        }
+        int index = markets++;
+        spillOffsets[index] = spillPosition;
+        spillLengths[index] = bytes.length;
+        nextMarket[index] = NO_MARKET;
+        spillPosition += bytes.length;
+
+        int event = eventOf(market.getEventId() != null ? market.getEventId() : uidPrefix(market.getMarket_uid()));
+        if (eventMarkets[event] == 0) {
+            firstMarket[event] = index;
+        } else {
+            nextMarket[lastMarket[event]] = index;
+        }
+        lastMarket[event] = index;
+        eventMarkets[event]++;
+    }
+
+    // Event number for the event ID, adding the event on first sight
+    private int eventOf(String eventId) {
+        long numericId = UidGenerator.parseEventId(eventId);
+        if (numericId != UidGenerator.NON_NUMERIC_EVENT_ID) {
+            int known = numericEvents.size();
+            int slot = numericEvents.slotOf(numericId);
+            if (slot < known) {
+                return numericSlotEvents[slot];
+            }
+            if (slot == numericSlotEvents.length) {
+                numericSlotEvents = Arrays.copyOf(numericSlotEvents, slot * 2);
+            }
+            return numericSlotEvents[slot] = addEvent(eventId);
+        }
+        Integer event = otherEvents.get(eventId);
+        if (event == null) {
+            event = addEvent(eventId);
+            otherEvents.put(eventId, event);
+        }
+        return event;
+    }
+
+    private static String uidPrefix(String marketUid) {
+        int separator = marketUid.indexOf('_');
+        return separator < 0 ? marketUid : marketUid.substring(0, separator);
+    }
+
+    private int addEvent(String eventId) {
+        if (events == eventIds.length) {
+            int capacity = events * 2;
+            eventIds = Arrays.copyOf(eventIds, capacity);
+            firstMarket = Arrays.copyOf(firstMarket, capacity);
+            lastMarket = Arrays.copyOf(lastMarket, capacity);
+            eventMarkets = Arrays.copyOf(eventMarkets, capacity);
+        }
+        eventIds[events] = eventId;
+        return events++;
+    }
+
+    @Override
+    public void commit() {
+        try {
+            closeSpill();
+            writeGroups();
+            Files.move(indexTempPath, indexPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
+            committed = true;
+        } catch (IOException e) {
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "Failed to write output file: " + target.toAbsolutePath(), e);
+        } finally {
+            deleteQuietly(spillPath);
+        }
+    }
+
+    // Copies the spilled markets into the data file event by event and records each event's byte range
+    private void writeGroups() throws IOException {
+        byte[] buffer = new byte[256];
+        try (FileChannel spillChannel = FileChannel.open(spillPath, StandardOpenOption.READ);
+             CountingOutputStream out = new CountingOutputStream(
+                     new BufferedOutputStream(Files.newOutputStream(tempPath), BUFFER_SIZE));
+             JsonGenerator generator = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+             BufferedWriter index = Files.newBufferedWriter(indexTempPath, StandardCharsets.UTF_8)) {
+            if (mapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+                generator.setPrettyPrinter(mapper.getSerializationConfig().constructDefaultPrettyPrinter());
+            }
+            index.write(EventIndex.HEADER);
+            index.newLine();
+            generator.writeStartArray();
+            for (int event = 0; event < events; event++) {
+                generator.writeStartObject();
+                // The last byte written is the object's '{'; separators and indentation come before it
+                long start = out.getCount() + generator.getOutputBuffered() - 1;
+                generator.writeStringField("event_id", eventIds[event]);
+                generator.writeArrayFieldStart("markets");
+                for (int market = firstMarket[event]; market != NO_MARKET; market = nextMarket[market]) {
+                    int length = spillLengths[market];
+                    if (buffer.length < length) {
+                        buffer = new byte[Math.max(length, buffer.length * 2)];
+                    }
+                    readFully(spillChannel, buffer, length, spillOffsets[market]);
+                    try (JsonParser parser = spillFactory.createParser(buffer, 0, length)) {
+                        parser.nextToken();
+                        generator.copyCurrentStructure(parser);
+                    }
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+                long end = out.getCount() + generator.getOutputBuffered();
+                if (isIndexable(eventIds[event])) {
+                    index.write(eventIds[event] + "\t" + start + "\t" + (end - start) + "\t" + eventMarkets[event]);
+                    index.newLine();
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    // Event IDs with tabs or line breaks would break the index line; such events are only in the data file
+    private static boolean isIndexable(String eventId) {
+        for (int i = 0; i < eventId.length(); i++) {
+            char c = eventId.charAt(i);
+            if (c == '\t' || c == '\n' || c == '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void readFully(FileChannel channel, byte[] buffer, int length, long position) throws IOException {
+        ByteBuffer target = ByteBuffer.wrap(buffer, 0, length);
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) {
+                throw new IOException("Spill file ended early at " + (position + target.position()));
+            }
+        }
+    }
+
+    private void closeSpill() throws IOException {
+        if (!spillClosed) {
+            spillClosed = true;
+            spill.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (committed) return;
+        try {
+            closeSpill();
+        } catch (IOException ignored) {
+            // the partial output is discarded anyway
+        }
+        deleteQuietly(spillPath);
+        deleteQuietly(tempPath);
+        deleteQuietly(indexTempPath);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // a stale temp file is overwritten on the next run
+        }
+    }
+
+    // Bytes passed on so far; with the generator's buffered bytes this is the output position
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
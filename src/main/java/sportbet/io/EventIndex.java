@@ -0,0 +1,186 @@
+package sportbet.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import sportbet.errors.FileFormatException;
+import sportbet.errors.JsonReadException;
+import sportbet.errors.MissingFileException;
+
+/**
+  Event-to-offset index written by {@link EventGroupingMarketWriter} next to
+  its data file, as {@code <data file>.idx}. Tab-separated UTF-8 text, one
+  line per event in data file order after a header line:
+
+  <pre>
+  event_id	offset	length	markets
+  123	2	1840	4
+  </pre>
+
+  offset and length are the byte range of the event's
+  {@code {"event_id": ..., "markets": [...]}} object in the data file, which
+  parses on its own. Lookups go through a hash map, so finding an event and
+  reading its bytes costs the same for the first and the last event of the
+  file. Instances are immutable and thread-safe.
+**/
+
+public final class EventIndex {
+
+    static final String HEADER = "event_id\toffset\tlength\tmarkets";
+
+    private final Map<String, Entry> entries;
+    private final List<Entry> ordered;
+
+    private EventIndex(Map<String, Entry> entries, List<Entry> ordered) {
+        this.entries = entries;
+        this.ordered = ordered;
+    }
+
+    /**
+     * @return Index file that belongs to a grouped data file
+     */
+    public static Path pathFor(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + ".idx");
+    }
+
+    /**
+     * Reads an index file completely.
+     *
+     * @throws MissingFileException if the file does not exist or is not readable
+     * @throws FileFormatException if the header or a line does not match the format
+     */
+    public static EventIndex load(Path indexFile) {
+        if (!Files.exists(indexFile) || !Files.isRegularFile(indexFile) || !Files.isReadable(indexFile)) {
+            throw new MissingFileException("Index file not found / not a regular file / not readable: "
+                    + indexFile.toAbsolutePath());
+        }
+        Map<String, Entry> entries = new HashMap<>();
+        List<Entry> ordered = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                throw new FileFormatException("Not an event index (bad header): " + indexFile.toAbsolutePath());
+            }
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                Entry entry = parseLine(line);
+                if (entry == null || entries.putIfAbsent(entry.eventId, entry) != null) {
+                    throw new FileFormatException("Invalid event index line " + lineNumber + ": "
+                            + indexFile.toAbsolutePath());
+                }
+                ordered.add(entry);
+            }
+        } catch (IOException e) {
+            throw new JsonReadException("Failed to read event index: " + indexFile.toAbsolutePath(), e);
+        }
+        return new EventIndex(entries, Collections.unmodifiableList(ordered));
+    }
+
+    // Entry for one index line, or null if it is malformed
+    private static Entry parseLine(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 4 || fields[0].isEmpty()) {
+            return null;
+        }
+        try {
+            long offset = Long.parseLong(fields[1]);
+            int length = Integer.parseInt(fields[2]);
+            int markets = Integer.parseInt(fields[3]);
+            if (offset < 0 || length < 2 || markets < 0) {
+                return null;
+            }
+            return new Entry(fields[0], offset, length, markets);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return Entry of the event, or null if the data file has no markets for it
+     */
+    public Entry get(String eventId) {
+        return entries.get(eventId);
+    }
+
+    /**
+     * @return All entries in data file order
+     */
+    public List<Entry> getEntries() {
+        return ordered;
+    }
+
+    public int size() {
+        return ordered.size();
+    }
+
+    /**
+     * Reads one event's JSON object from the data file without touching the other events.
+     *
+     * @return UTF-8 bytes of the event object, or null if the index has no such event
+     * @throws JsonReadException if the data file cannot be read or is shorter than the index says
+     */
+    public byte[] readEvent(Path dataFile, String eventId) {
+        Entry entry = get(eventId);
+        if (entry == null) {
+            return null;
+        }
+        byte[] bytes = new byte[entry.length];
+        ByteBuffer target = ByteBuffer.wrap(bytes);
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            while (target.hasRemaining()) {
+                if (channel.read(target, entry.offset + target.position()) < 0) {
+                    throw new FileFormatException("Data file is shorter than its event index: "
+                            + dataFile.toAbsolutePath());
+                }
+            }
+        } catch (IOException e) {
+            throw new JsonReadException("Failed to read grouped output file: " + dataFile.toAbsolutePath(), e);
+        }
+        return bytes;
+    }
+
+    /**
+     * Position of one event's object in the data file.
+     */
+    public static final class Entry {
+        private final String eventId;
+        private final long offset;
+        private final int length;
+        private final int markets;
+
+        Entry(String eventId, long offset, int length, int markets) {
+            this.eventId = eventId;
+            this.offset = offset;
+            this.length = length;
+            this.markets = markets;
+        }
+
+        public String getEventId() {
+            return eventId;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public int getMarkets() {
+            return markets;
+        }
+    }
+}
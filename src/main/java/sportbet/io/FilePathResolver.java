@@ -1,9 +1,14 @@
 package sportbet.io;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import sportbet.errors.MissingFileException;
 
@@ -45,6 +50,75 @@ public class FilePathResolver {
             " (checked both direct path and " + INPUT_DIR + " directory)");
     }
     
+    /**
+     * Checks whether the argument names a batch of files rather than a single file:
+     * a glob such as "input_files/*.json" or a directory (direct or inside input_files).
+     * An existing file is a single input even if its name contains glob characters.
+     *
+     * @param pattern The input argument
+     * @return true if {@link #resolveInputPaths(String)} should be used
+     */
+    public static boolean isBatchInput(String pattern) {
+        if (findFile(pattern) != null) {
+            return false;
+        }
+        return isGlob(pattern) || findDirectory(pattern) != null;
+    }
+
+    /**
+     * Resolves a glob or directory into the list of input files it names, sorted by path.
+     * A directory expands to its *.json files. Glob characters are only allowed in the
+     * last path segment; the directory part is looked up like {@link #resolveInputPath(String)}
+     * and a bare glob such as "*.json" searches the input_files directory.
+     * A plain filename resolves to a single file, and so does an existing file whose name
+     * contains glob characters, such as "odds[1].json".
+     *
+     * @param pattern Directory, glob or filename
+     * @return Matching regular files, never empty
+     * @throws MissingFileException if the directory does not exist or nothing matches
+     */
+    public static List<Path> resolveInputPaths(String pattern) throws MissingFileException {
+        Path literalFile = findFile(pattern);
+        if (literalFile != null) {
+            return Collections.singletonList(literalFile);
+        }
+
+        String directory;
+        String glob;
+        if (isGlob(pattern)) {
+            int slash = Math.max(pattern.lastIndexOf('/'), pattern.lastIndexOf('\\'));
+            directory = slash < 0 ? INPUT_DIR : pattern.substring(0, slash + 1);
+            glob = pattern.substring(slash + 1);
+        } else if (findDirectory(pattern) != null) {
+            directory = pattern;
+            glob = "*.json";
+        } else {
+            return Collections.singletonList(resolveInputPath(pattern));
+        }
+
+        Path dir = findDirectory(directory);
+        if (dir == null) {
+            throw new MissingFileException("Directory not found: " + directory +
+                " (checked both direct path and " + INPUT_DIR + " directory)");
+        }
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, glob)) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new MissingFileException("Cannot list directory: " + dir + " (" + e.getMessage() + ")");
+        }
+        if (files.isEmpty()) {
+            throw new MissingFileException("No files match: " + pattern);
+        }
+        Collections.sort(files);
+        return files;
+    }
+
     /**
      * Resolves the output file path by creating it in the output_files directory.
      * Automatically adds "_output" suffix before the file extension.
@@ -63,6 +137,26 @@ public class FilePathResolver {
         return Paths.get(OUTPUT_DIR, outputFilename);
     }
     
+    /**
+     * Resolves the output file path for the given format. Formats with their own
+     * extension replace the input's extension, e.g. "markets.json" becomes
+     * "markets_output.sml" for Smile; JSON formats behave like {@link #resolveOutputPath(String)}.
+     *
+     * @param inputFilename The original input filename
+     * @param format The output format
+     * @return Path for the output file in OUTPUT_FILES directory
+     */
+    public static Path resolveOutputPath(String inputFilename, OutputFormat format) {
+        Path jsonPath = resolveOutputPath(inputFilename);
+        if (format.getExtension() == null) {
+            return jsonPath;
+        }
+        String filename = jsonPath.getFileName().toString();
+        int lastDotIndex = filename.lastIndexOf('.');
+        String base = lastDotIndex == -1 ? filename : filename.substring(0, lastDotIndex);
+        return jsonPath.resolveSibling(base + format.getExtension());
+    }
+
     /**
      * Adds "_output" suffix before the file extension.
      * Example: "markets.json" becomes "markets_output.json"
@@ -83,6 +177,40 @@ public class FilePathResolver {
         }
     }
     
+    private static boolean isGlob(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == '{') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Existing regular file named exactly this (direct or inside input_files), checked before glob matching
+    private static Path findFile(String name) {
+        try {
+            Path directPath = Paths.get(name);
+            if (Files.isRegularFile(directPath)) {
+                return directPath;
+            }
+            Path inputDirPath = Paths.get(INPUT_DIR, name);
+            return Files.isRegularFile(inputDirPath) ? inputDirPath : null;
+        } catch (InvalidPathException e) {
+            // Glob characters that are not legal in a path on this platform
+            return null;
+        }
+    }
+
+    private static Path findDirectory(String name) {
+        Path directPath = Paths.get(name);
+        if (Files.isDirectory(directPath)) {
+            return directPath;
+        }
+        Path inputDirPath = Paths.get(INPUT_DIR, name);
+        return Files.isDirectory(inputDirPath) ? inputDirPath : null;
+    }
+
     /**
      * Creates the output_files directory if it doesn't exist.
      */
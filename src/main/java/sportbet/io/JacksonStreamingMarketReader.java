@@ -0,0 +1,150 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.errors.FileFormatException;
+import sportbet.errors.JsonReadException;
+import sportbet.errors.MissingFileException;
+import sportbet.model.RawMarket;
+
+/**
+  Jackson-based reader that walks the JSON array with a JsonParser and binds
+  one RawMarket at a time, so memory use does not depend on the file size.
+  In memory-mapped mode the parser reads from a {@link MappedFileInputStream}
+  instead of a FileInputStream, avoiding a read() system call per 8 KB block.
+  When the mapper ignores unknown properties, markets are decoded token by token
+  by a {@link RawMarketDecoder}, which can refill a caller's market through
+  {@link MarketCursor#next(RawMarket)}; otherwise they are bound by the mapper.
+**/
+
+public class JacksonStreamingMarketReader implements JsonMarketStreamReader {
+    private final ObjectMapper mapper;
+    private final boolean memoryMapped;
+
+    public JacksonStreamingMarketReader() {
+        this(new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+    }
+
+    public JacksonStreamingMarketReader(ObjectMapper mapper) {
+        this(mapper, false);
+    }
+
+    public JacksonStreamingMarketReader(ObjectMapper mapper, boolean memoryMapped) {
+        this.mapper = mapper;
+        this.memoryMapped = memoryMapped;
+    }
+
+    @Override
+    public MarketCursor open(Path file) {
+        if (!Files.exists(file) || !Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new MissingFileException("Input file not found / not a regular file / not readable: "
+                    + file.toAbsolutePath());
+        }
+
+        JsonParser parser = null;
+        try {
+            parser = memoryMapped
+                    ? mapper.getFactory().createParser(new MappedFileInputStream(file))
+                    : mapper.getFactory().createParser(file.toFile());
+            JsonToken root = parser.nextToken();
+            if (root == null) {
+                throw new JsonReadException("Failed to read/parse JSON (no content): " + file.toAbsolutePath());
+            }
+            if (root != JsonToken.START_ARRAY) {
+                throw new FileFormatException("JSON root is null or not an array: " + file.toAbsolutePath());
+            }
+            return new ParserCursor(parser, file);
+        } catch (IOException e) {
+            closeQuietly(parser);
+            throw new JsonReadException("Failed to read/parse JSON: " + file.toAbsolutePath(), e);
+        } catch (RuntimeException e) {
+            closeQuietly(parser);
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(JsonParser parser) {
+        if (parser == null) return;
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // nothing useful to do on a failed open
+        }
+    }
+
+    // Cursor that binds the next array element lazily on hasNext(), into the market
+    // handed back with the previous next(reuse) call when there is one
+    private final class ParserCursor implements MarketCursor {
+        private final JsonParser parser;
+        private final Path file;
+        private final RawMarketDecoder decoder;
+        private RawMarket next;
+        private RawMarket reuse;
+        private boolean ready;
+        private boolean finished;
+
+        ParserCursor(JsonParser parser, Path file) {
+            this.parser = parser;
+            this.file = file;
+            this.decoder = RawMarketDecoder.supports(mapper) ? new RawMarketDecoder(mapper) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (ready) return true;
+            if (finished) return false;
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null) {
+                    throw new JsonReadException("Unexpected end of JSON array: " + file.toAbsolutePath());
+                }
+                if (token == JsonToken.END_ARRAY) {
+                    finished = true;
+                    close();
+                    return false;
+                }
+                next = decoder != null
+                        ? decoder.decode(parser, reuse)
+                        : mapper.readValue(parser, RawMarket.class);
+                reuse = null;
+                ready = true;
+                return true;
+            } catch (IOException e) {
+                finished = true;
+                close();
+                throw new JsonReadException("Failed to read/parse JSON: " + file.toAbsolutePath(), e);
+            }
+        }
+
+        @Override
+        public RawMarket next() {
+            return next(null);
+        }
+
+        @Override
+        public RawMarket next(RawMarket reuse) {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            RawMarket market = next;
+            next = null;
+            this.reuse = reuse;
+            return market;
+        }
+
+        @Override
+        public void close() {
+            closeQuietly(parser);
+        }
+    }
+}
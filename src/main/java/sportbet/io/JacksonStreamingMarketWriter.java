@@ -0,0 +1,114 @@
+package sportbet.io;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import sportbet.errors.DomainException;
+import sportbet.errors.ErrorCode;
+import sportbet.model.ParsedMarket;
+
+/**
+  Jackson-based writer that appends each ParsedMarket to the output JSON array
+  through a single JsonGenerator. Output goes through a fixed-size buffer, so
+  heap use does not grow with the number of markets written, and the bytes are
+  identical to serializing the whole list with the same mapper. The mapper's
+  factory decides the encoding, see {@link OutputFormat#createMapper()}.
+**/
+
+public class JacksonStreamingMarketWriter implements MarketWriter {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final Path target;
+    private final Path tempPath;
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private boolean committed;
+    private boolean closed;
+
+    public JacksonStreamingMarketWriter(ObjectMapper mapper, Path target) {
+        this(mapper, target, DEFAULT_BUFFER_SIZE);
+    }
+
+    public JacksonStreamingMarketWriter(ObjectMapper mapper, Path target, int bufferSize) {
+        this.target = target;
+        this.tempPath = target.resolveSibling(target.getFileName() + ".tmp");
+        // Let the buffer decide when bytes reach the disk, not every writeValue call
+        this.writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        OutputStream out = null;
+        try {
+            out = new BufferedOutputStream(Files.newOutputStream(tempPath), bufferSize);
+            this.generator = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            if (mapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+                generator.setPrettyPrinter(mapper.getSerializationConfig().constructDefaultPrettyPrinter());
+            }
+            generator.writeStartArray();
+        } catch (IOException e) {
+            closeQuietly(out);
+            deleteQuietly(tempPath);
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "Failed to open output file: " + target.toAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public void write(ParsedMarket market) {
+        try {
+            writer.writeValue(generator, market);
+        } catch (IOException e) {
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "Failed to write output file: " + target.toAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public void commit() {
+        try {
+            generator.writeEndArray();
+            generator.close();
+            closed = true;
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
+            committed = true;
+        } catch (IOException e) {
+            throw new DomainException(ErrorCode.CONVERSION_ERROR,
+                    "Failed to write output file: " + target.toAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (committed) return;
+        if (!closed) {
+            closeQuietly(generator);
+            closed = true;
+        }
+        deleteQuietly(tempPath);
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) return;
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // the partial output is discarded anyway
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // a stale temp file is overwritten on the next run
+        }
+    }
+}
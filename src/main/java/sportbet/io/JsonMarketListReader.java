@@ -7,7 +7,8 @@ import java.util.List;
 
 /**
  * Reads a JSON file containing an array of markets and returns a List<RawMarket>.
- * Use this when you are OK loading the whole file into memory.
+ * Use this when you are OK loading the whole file into memory;
+ * otherwise see {@link JsonMarketStreamReader}.
  */
 public interface JsonMarketListReader {
     List<RawMarket> read(Path file);
@@ -0,0 +1,23 @@
+package sportbet.io;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import sportbet.model.RawMarket;
+
+/**
+ * Reads a JSON file containing an array of markets one market at a time.
+ * Use this when the file may be too large to load into memory.
+ */
+public interface JsonMarketStreamReader {
+
+    MarketCursor open(Path file);
+
+    default void forEach(Path file, Consumer<? super RawMarket> consumer) {
+        try (MarketCursor cursor = open(file)) {
+            while (cursor.hasNext()) {
+                consumer.accept(cursor.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * InputStream over a memory-mapped file. The file is mapped in chunks of at most
+ * {@link #DEFAULT_CHUNK_SIZE} bytes, one chunk at a time, so files larger than the
+ * 2 GB limit of a single MappedByteBuffer are supported. Reads copy straight from the
+ * page cache into the caller's buffer without read() system calls.
+ * Not thread-safe.
+ */
+public class MappedFileInputStream extends InputStream {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int chunkSize;
+    private long nextChunkStart;
+    private MappedByteBuffer chunk;
+
+    public MappedFileInputStream(Path file) throws IOException {
+        this(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Each chunk is a separate mapping that is only released when its buffer is garbage
+     * collected, so small chunk sizes can exhaust the process mapping limit on large files.
+     *
+     * @param file File to map read-only
+     * @param chunkSize Bytes per mapping, 1 to Integer.MAX_VALUE
+     */
+    public MappedFileInputStream(Path file, int chunkSize) throws IOException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be at least 1: " + chunkSize);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        return chunk.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, chunk.remaining());
+        chunk.get(buffer, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && ensureRemaining()) {
+            int step = (int) Math.min(n - skipped, chunk.remaining());
+            chunk.position(chunk.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        long remaining = size - nextChunkStart + (chunk == null ? 0 : chunk.remaining());
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        chunk = null;
+        channel.close();
+    }
+
+    // Maps the next chunk when the current one is used up; false at end of file
+    private boolean ensureRemaining() throws IOException {
+        while (chunk == null || !chunk.hasRemaining()) {
+            if (nextChunkStart >= size) {
+                return false;
+            }
+            long length = Math.min(chunkSize, size - nextChunkStart);
+            chunk = channel.map(FileChannel.MapMode.READ_ONLY, nextChunkStart, length);
+            nextChunkStart += length;
+        }
+        return true;
+    }
+}
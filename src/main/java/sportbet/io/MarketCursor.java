@@ -0,0 +1,27 @@
+package sportbet.io;
+
+import java.util.Iterator;
+
+import sportbet.model.RawMarket;
+
+/**
+ * Forward-only cursor over the markets of an input file.
+ * Holds the underlying parser open until closed.
+ */
+public interface MarketCursor extends Iterator<RawMarket>, AutoCloseable {
+
+    /**
+     * Same as {@link #next()}, but hands a market back for reuse: a later market
+     * may be decoded into it instead of allocating a new one. The caller must be
+     * done with reuse and everything reachable from it. The default ignores reuse.
+     *
+     * @param reuse Market returned by an earlier call, or null
+     * @return the next market, possibly an object handed back earlier
+     */
+    default RawMarket next(RawMarket reuse) {
+        return next();
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,27 @@
+package sportbet.io;
+
+import java.nio.file.Path;
+
+import sportbet.model.ParsedMarket;
+
+/**
+ * Writes converted markets to an output file one market at a time.
+ * Nothing is visible at the target path until {@link #commit()} succeeds;
+ * closing an uncommitted writer discards what was written.
+ */
+public interface MarketWriter extends AutoCloseable {
+
+    /**
+     * Opens a writer for one output file; shared across files and threads.
+     */
+    interface Factory {
+        MarketWriter open(Path target);
+    }
+
+    void write(ParsedMarket market);
+
+    void commit();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,133 @@
+package sportbet.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Output encodings for converted markets. Every format writes the same
+ * ParsedMarket tree; only the bytes differ.
+ */
+public enum OutputFormat {
+
+    /** Indented JSON, the default and the historical output */
+    JSON("json", null),
+
+    /** JSON without whitespace */
+    JSON_COMPACT("json-compact", null),
+
+    /**
+     * Smile binary JSON: field names and short repeated values (type IDs,
+     * specifier keys) are written once and back-referenced afterwards.
+     */
+    SMILE("smile", ".sml"),
+
+    /**
+     * Selection columns (UID, type ID, odds) for analytics, see
+     * {@link ColumnarOddsFile}. Not written through Jackson.
+     */
+    COLUMNAR("columnar", ".odds");
+
+    private final String cliName;
+    private final String extension;
+
+    OutputFormat(String cliName, String extension) {
+        this.cliName = cliName;
+        this.extension = extension;
+    }
+
+    /**
+     * @return Name used on the command line, e.g. "json-compact"
+     */
+    public String getCliName() {
+        return cliName;
+    }
+
+    /**
+     * @return File extension replacing the input's, or null to keep the input's extension
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    public boolean isBinary() {
+        return this != JSON && this != JSON_COMPACT;
+    }
+
+    /**
+     * @return false for formats that drop market-level fields and cannot carry delta tombstones
+     */
+    public boolean isMarketComplete() {
+        return this != COLUMNAR;
+    }
+
+    /**
+     * Creates the factory for this format's writers; JSON formats share one mapper
+     * built by {@link #createMapper()}.
+     */
+    public MarketWriter.Factory writerFactory() {
+        if (this == COLUMNAR) {
+            return ColumnarOddsWriter::new;
+        }
+        ObjectMapper mapper = createMapper();
+        return target -> new JacksonStreamingMarketWriter(mapper, target);
+    }
+
+    /**
+     * Creates the factory for writers that group markets by event and write an
+     * {@link EventIndex} next to the data file, see {@link EventGroupingMarketWriter}.
+     *
+     * @throws UnsupportedOperationException for binary formats, whose event slices cannot be read on their own
+     */
+    public MarketWriter.Factory eventGroupingWriterFactory() {
+        if (isBinary()) {
+            throw new UnsupportedOperationException(cliName + " output cannot be grouped by event");
+        }
+        ObjectMapper mapper = createMapper();
+        return target -> new EventGroupingMarketWriter(mapper, target);
+    }
+
+    /**
+     * Creates the mapper used to write this format. Mappers are thread-safe,
+     * so one instance can serve every writer of a run.
+     *
+     * @throws UnsupportedOperationException for {@link #COLUMNAR}
+     */
+    public ObjectMapper createMapper() {
+        switch (this) {
+            case JSON:
+                return new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            case JSON_COMPACT:
+                return new ObjectMapper();
+            case SMILE:
+                SmileFactory factory = SmileFactory.builder()
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                        .build();
+                return new ObjectMapper(factory);
+            case COLUMNAR:
+                throw new UnsupportedOperationException(cliName + " output is not written through Jackson");
+            default:
+                throw new IllegalStateException("Unhandled format: " + this);
+        }
+    }
+
+    /**
+     * Finds a format by its command line name.
+     *
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static OutputFormat fromCliName(String name) {
+        for (OutputFormat format : values()) {
+            if (format.cliName.equals(name)) {
+                return format;
+            }
+        }
+        StringBuilder names = new StringBuilder();
+        for (OutputFormat format : values()) {
+            if (names.length() > 0) names.append(", ");
+            names.append(format.cliName);
+        }
+        throw new IllegalArgumentException("Unknown output format: " + name + " (expected one of " + names + ")");
+    }
+}
@@ -0,0 +1,421 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.errors.DomainException;
+import sportbet.errors.ErrorCode;
+import sportbet.errors.FileFormatException;
+import sportbet.errors.JsonReadException;
+import sportbet.errors.MissingFileException;
+import sportbet.model.RawMarket;
+
+/**
+  Reader that parses one large JSON array on several threads.
+  The calling thread scans the bytes for top-level element boundaries, tracking
+  nesting depth, strings and escapes only, and cuts the array into ranges of
+  roughly equal size at element separators. Each range is re-wrapped as a small
+  JSON array and bound by a worker. Batches are handed out in range order, so
+  markets come back exactly in file order. At most two ranges per thread are in
+  flight, which bounds memory. Parse errors surface at the position where a
+  sequential reader would report them.
+**/
+
+public class ParallelMarketReader implements JsonMarketStreamReader {
+
+    public static final int MIN_RANGE_BYTES = 64 * 1024;
+    public static final int MAX_RANGE_BYTES = 8 * 1024 * 1024;
+    private static final int RANGES_PER_THREAD = 8;
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    private final ObjectMapper mapper;
+    private final int threads;
+    private final boolean memoryMapped;
+    private final int rangeBytes;
+
+    public ParallelMarketReader(ObjectMapper mapper, int threads) {
+        this(mapper, threads, false);
+    }
+
+    public ParallelMarketReader(ObjectMapper mapper, int threads, boolean memoryMapped) {
+        this(mapper, threads, memoryMapped, 0);
+    }
+
+    /**
+     * @param rangeBytes Target bytes per parsed range; 0 sizes ranges from the file size
+     */
+    public ParallelMarketReader(ObjectMapper mapper, int threads, boolean memoryMapped, int rangeBytes) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1: " + threads);
+        }
+        if (rangeBytes < 0) {
+            throw new IllegalArgumentException("rangeBytes must not be negative: " + rangeBytes);
+        }
+        this.mapper = mapper;
+        this.threads = threads;
+        this.memoryMapped = memoryMapped;
+        this.rangeBytes = rangeBytes;
+    }
+
+    @Override
+    public MarketCursor open(Path file) {
+        if (!Files.exists(file) || !Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new MissingFileException("Input file not found / not a regular file / not readable: "
+                    + file.toAbsolutePath());
+        }
+
+        InputStream in = null;
+        try {
+            in = memoryMapped ? new MappedFileInputStream(file) : Files.newInputStream(file);
+            int target = rangeBytes > 0 ? rangeBytes : rangeSizeFor(Files.size(file));
+            RangeScanner scanner = new RangeScanner(in, file, target);
+            return new RangeCursor(scanner, file);
+        } catch (IOException e) {
+            closeQuietly(in);
+            throw new JsonReadException("Failed to read/parse JSON: " + file.toAbsolutePath(), e);
+        } catch (RuntimeException e) {
+            closeQuietly(in);
+            throw e;
+        }
+    }
+
+    // Enough ranges to keep every thread busy, within [MIN_RANGE_BYTES, MAX_RANGE_BYTES]
+    private int rangeSizeFor(long fileSize) {
+        long perRange = fileSize / ((long) threads * RANGES_PER_THREAD);
+        return (int) Math.max(MIN_RANGE_BYTES, Math.min(MAX_RANGE_BYTES, perRange));
+    }
+
+    private static void closeQuietly(InputStream in) {
+        if (in == null) return;
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // nothing useful to do on a failed open
+        }
+    }
+
+    // Binds one range ("[" + elements + "]") the same way the streaming reader binds the whole file
+    private List<RawMarket> parseRange(Range range, Path file) {
+        if (range.missingElement) {
+            // Reported in range order, after the markets of earlier ranges
+            throw new JsonReadException("Failed to read/parse JSON (missing array element): " + file.toAbsolutePath());
+        }
+        byte[] bytes = range.bytes;
+        int length = range.length;
+        List<RawMarket> markets = new ArrayList<>();
+        RawMarketDecoder decoder = RawMarketDecoder.supports(mapper) ? new RawMarketDecoder(mapper) : null;
+        try (JsonParser parser = mapper.getFactory().createParser(bytes, 0, length)) {
+            parser.nextToken();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonReadException("Unexpected end of JSON array: " + file.toAbsolutePath());
+                }
+                // Markets of a range are handed out together, so nothing is reused
+                markets.add(decoder != null ? decoder.decode(parser, null) : mapper.readValue(parser, RawMarket.class));
+            }
+        } catch (IOException e) {
+            throw new JsonReadException("Failed to read/parse JSON: " + file.toAbsolutePath(), e);
+        }
+        return markets;
+    }
+
+    // Splits the top-level array into ranges; not thread-safe, driven by the cursor
+    static final class RangeScanner {
+        private static final int BEFORE_ARRAY = 0;
+        private static final int IN_ARRAY = 1;
+        private static final int DONE = 2;
+        // Jackson skips a UTF-8 byte order mark at the start of the input, so the scanner does too
+        private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+        private final InputStream in;
+        private final int target;
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private int blockPos;
+        private int blockLen;
+
+        private int state = BEFORE_ARRAY;
+        private int depth;
+        private boolean inString;
+        private boolean escape;
+
+        private byte[] range;
+        private int rangeLen;
+        // The previous range ended at a separator that was cut out, so this one must hold an element
+        private boolean afterSplit;
+
+        RangeScanner(InputStream in, Path file, int target) throws IOException {
+            this.in = in;
+            this.target = target;
+            this.range = new byte[Math.min(target, MAX_RANGE_BYTES) + 2];
+            readArrayStart(file);
+        }
+
+        // Consumes a byte order mark, leading whitespace and the opening bracket
+        private void readArrayStart(Path file) throws IOException {
+            int bomBytes = 0;
+            boolean atStart = true;
+            while (true) {
+                if (blockPos == blockLen && !fillBlock()) {
+                    throw new JsonReadException("Failed to read/parse JSON (no content): " + file.toAbsolutePath());
+                }
+                byte b = block[blockPos];
+                if (atStart && bomBytes < UTF8_BOM.length && b == UTF8_BOM[bomBytes]) {
+                    bomBytes++;
+                    blockPos++;
+                    atStart = bomBytes < UTF8_BOM.length;
+                    continue;
+                }
+                if (bomBytes > 0 && atStart) {
+                    throw new FileFormatException("JSON root is null or not an array: " + file.toAbsolutePath());
+                }
+                atStart = false;
+                if (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                    blockPos++;
+                    continue;
+                }
+                if (b != '[') {
+                    throw new FileFormatException("JSON root is null or not an array: " + file.toAbsolutePath());
+                }
+                blockPos++;
+                state = IN_ARRAY;
+                depth = 1;
+                return;
+            }
+        }
+
+        boolean hasMore() {
+            return state != DONE;
+        }
+
+        // Next range, re-wrapped as a JSON array
+        Range next() throws IOException {
+            rangeLen = 0;
+            append((byte) '[');
+            while (true) {
+                if (blockPos == blockLen && !fillBlock()) {
+                    // Truncated input: hand over what is left and let the parser report it
+                    state = DONE;
+                    return new Range(range, rangeLen, false);
+                }
+                int start = blockPos;
+                int end = blockLen;
+                for (int i = start; i < end; i++) {
+                    byte b = block[i];
+                    if (inString) {
+                        if (escape) {
+                            escape = false;
+                        } else if (b == '\\') {
+                            escape = true;
+                        } else if (b == '"') {
+                            inString = false;
+                        }
+                        continue;
+                    }
+                    switch (b) {
+                        case '"':
+                            inString = true;
+                            break;
+                        case '{':
+                        case '[':
+                            depth++;
+                            break;
+                        case '}':
+                        case ']':
+                            if (--depth == 0) {
+                                append(block, start, i - start);
+                                // "[ ]" is an empty array only when no separator came before it
+                                boolean missing = afterSplit && isBlank(range, 1, rangeLen);
+                                append((byte) ']');
+                                blockPos = i + 1;
+                                state = DONE;
+                                return new Range(range, rangeLen, missing);
+                            }
+                            break;
+                        case ',':
+                            if (depth == 1 && rangeLen + (i - start) >= target) {
+                                append(block, start, i - start);
+                                // Re-wrapping would turn ",," or "[," into a valid empty array
+                                boolean missing = isBlank(range, 1, rangeLen);
+                                append((byte) ']');
+                                blockPos = i + 1;
+                                afterSplit = true;
+                                Range result = new Range(range, rangeLen, missing);
+                                range = new byte[range.length];
+                                return result;
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                append(block, start, end - start);
+                blockPos = end;
+            }
+        }
+
+        // True if bytes[from, to) hold only JSON whitespace
+        private static boolean isBlank(byte[] bytes, int from, int to) {
+            for (int i = from; i < to; i++) {
+                byte b = bytes[i];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean fillBlock() throws IOException {
+            int n = in.read(block, 0, block.length);
+            if (n <= 0) {
+                return false;
+            }
+            blockPos = 0;
+            blockLen = n;
+            return true;
+        }
+
+        private void append(byte b) {
+            ensureCapacity(1);
+            range[rangeLen++] = b;
+        }
+
+        private void append(byte[] src, int from, int length) {
+            ensureCapacity(length);
+            System.arraycopy(src, from, range, rangeLen, length);
+            rangeLen += length;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (rangeLen + extra > range.length) {
+                range = Arrays.copyOf(range, Math.max(range.length * 2, rangeLen + extra));
+            }
+        }
+
+        void close() throws IOException {
+            in.close();
+        }
+    }
+
+    // Bytes of one range; the array may be longer than length.
+    // missingElement marks a range with no element next to a separator that was cut out
+    static final class Range {
+        final byte[] bytes;
+        final int length;
+        final boolean missingElement;
+
+        Range(byte[] bytes, int length, boolean missingElement) {
+            this.bytes = bytes;
+            this.length = length;
+            this.missingElement = missingElement;
+        }
+    }
+
+    // Keeps up to 2 * threads ranges parsing ahead and yields their markets in order
+    private final class RangeCursor implements MarketCursor {
+        private final RangeScanner scanner;
+        private final Path file;
+        private final ExecutorService executor;
+        private final Deque<Future<List<RawMarket>>> inFlight = new ArrayDeque<>();
+        private Iterator<RawMarket> batch = Collections.emptyIterator();
+        private boolean closed;
+
+        RangeCursor(RangeScanner scanner, Path file) {
+            this.scanner = scanner;
+            this.file = file;
+            AtomicInteger counter = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "market-parser-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!batch.hasNext()) {
+                if (closed) return false;
+                submitAhead();
+                Future<List<RawMarket>> head = inFlight.poll();
+                if (head == null) {
+                    close();
+                    return false;
+                }
+                batch = await(head).iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public RawMarket next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return batch.next();
+        }
+
+        private void submitAhead() {
+            try {
+                while (inFlight.size() < threads * 2 && scanner.hasMore()) {
+                    Range range = scanner.next();
+                    inFlight.add(executor.submit(() -> parseRange(range, file)));
+                }
+            } catch (IOException e) {
+                close();
+                throw new JsonReadException("Failed to read/parse JSON: " + file.toAbsolutePath(), e);
+            }
+        }
+
+        private List<RawMarket> await(Future<List<RawMarket>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new JsonReadException("Interrupted while parsing: " + file.toAbsolutePath(), e);
+            } catch (ExecutionException e) {
+                close();
+                Throwable cause = e.getCause();
+                if (cause instanceof DomainException) {
+                    throw (DomainException) cause;
+                }
+                throw new DomainException(ErrorCode.JSON_PARSE_ERROR,
+                        "Parser worker failed: " + cause.getMessage(), cause);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            batch = Collections.emptyIterator();
+            inFlight.forEach(f -> f.cancel(true));
+            inFlight.clear();
+            executor.shutdownNow();
+            try {
+                scanner.close();
+            } catch (IOException ignored) {
+                // input is read-only; nothing to recover
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.model.RawMarket;
+import sportbet.model.RawSelection;
+
+/**
+  Token-level decoder that reads one market object straight from a JsonParser
+  into a RawMarket, optionally reusing a market the caller is done with.
+  Odds are stored as primitive doubles, the selection list and the RawSelection
+  objects of a reused market are recycled, and short strings come from a
+  {@link TextCache}, so decoding a steady stream of markets creates close to
+  no garbage.
+
+  The values are the same as binding RawMarket with a mapper that ignores
+  unknown properties. Strings, numbers and nulls are decoded here; any other
+  token is handed to the mapper for that one value, so coercions and error
+  reporting stay Jackson's. Not thread-safe: use one decoder per parser.
+**/
+
+public final class RawMarketDecoder {
+
+    private final ObjectMapper mapper;
+    private final JavaType selectionListType;
+    private final TextCache text = new TextCache();
+    // RawSelections of recycled markets, handed out again before allocating new ones
+    private final List<RawSelection> spareSelections = new ArrayList<>();
+    private List<RawSelection> spareList;
+
+    /**
+     * @throws IllegalArgumentException if the mapper fails on unknown properties,
+     *         which this decoder does not reproduce
+     */
+    public RawMarketDecoder(ObjectMapper mapper) {
+        if (mapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+            throw new IllegalArgumentException("RawMarketDecoder requires FAIL_ON_UNKNOWN_PROPERTIES to be disabled");
+        }
+        this.mapper = mapper;
+        this.selectionListType = mapper.getTypeFactory().constructCollectionType(List.class, RawSelection.class);
+    }
+
+    /**
+     * True if markets bound by this mapper can be decoded by a RawMarketDecoder.
+     */
+    public static boolean supports(ObjectMapper mapper) {
+        return !mapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * Decodes the value at the parser's current token, leaving the parser on its last token.
+     *
+     * @param reuse Market to overwrite, including its selections; null to allocate a new one
+     * @return reuse or a new market; null for a JSON null
+     */
+    public RawMarket decode(JsonParser parser, RawMarket reuse) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return mapper.readValue(parser, RawMarket.class);
+        }
+
+        RawMarket market = reuse != null ? reuse : new RawMarket();
+        recycle(market);
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "name":
+                    market.setName(readText(parser, value));
+                    break;
+                case "event_id":
+                    market.setEvent_id(readText(parser, value));
+                    break;
+                case "selections":
+                    market.setSelections(readSelections(parser, value));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        spareList = null;
+        return market;
+    }
+
+    // Clears the market and keeps its list and selections for the next decode
+    private void recycle(RawMarket market) {
+        List<RawSelection> selections = market.getSelections();
+        if (selections instanceof ArrayList) {
+            for (RawSelection selection : selections) {
+                if (selection != null) spareSelections.add(selection);
+            }
+            selections.clear();
+            spareList = selections;
+        }
+        market.setName(null);
+        market.setEvent_id(null);
+        market.setSelections(null);
+    }
+
+    private List<RawSelection> readSelections(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return mapper.readValue(parser, selectionListType);
+        }
+
+        List<RawSelection> selections = spareList != null ? spareList : new ArrayList<>();
+        spareList = null;
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (element == JsonToken.START_OBJECT) {
+                selections.add(readSelection(parser, takeSpareSelection()));
+            } else if (element == JsonToken.VALUE_NULL) {
+                selections.add(null);
+            } else {
+                selections.add(mapper.readValue(parser, RawSelection.class));
+            }
+        }
+        return selections;
+    }
+
+    private RawSelection takeSpareSelection() {
+        int last = spareSelections.size() - 1;
+        return last >= 0 ? spareSelections.remove(last) : new RawSelection();
+    }
+
+    private RawSelection readSelection(JsonParser parser, RawSelection selection) throws IOException {
+        selection.setName(null);
+        selection.clearOdds();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "name":
+                    selection.setName(readText(parser, value));
+                    break;
+                case "odds":
+                    if (value == JsonToken.VALUE_NUMBER_FLOAT || value == JsonToken.VALUE_NUMBER_INT) {
+                        selection.setOddsValue(parser.getDoubleValue());
+                    } else if (value == JsonToken.VALUE_NULL) {
+                        selection.clearOdds();
+                    } else {
+                        selection.setOdds(mapper.readValue(parser, Double.class));
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return selection;
+    }
+
+    private String readText(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return text.get(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return mapper.readValue(parser, String.class);
+    }
+}
@@ -0,0 +1,60 @@
+package sportbet.io;
+
+/**
+ * Small direct-mapped cache that turns parser text into Strings, returning the
+ * same instance for text seen recently. Market names, selection names and
+ * event IDs repeat heavily in a feed, so most values are found without
+ * allocating. A miss replaces whatever occupied the slot. Not thread-safe.
+ */
+final class TextCache {
+
+    static final int DEFAULT_SLOTS = 1024;
+    static final int MAX_CACHED_LENGTH = 64;
+
+    private final String[] slots;
+    private final int mask;
+
+    TextCache() {
+        this(DEFAULT_SLOTS);
+    }
+
+    /**
+     * @param slots Number of slots, a power of two
+     */
+    TextCache(int slots) {
+        if (slots < 1 || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("slots must be a power of two: " + slots);
+        }
+        this.slots = new String[slots];
+        this.mask = slots - 1;
+    }
+
+    /**
+     * Returns the text in chars[offset, offset + length) as a String, cached when short.
+     */
+    String get(char[] chars, int offset, int length) {
+        if (length > MAX_CACHED_LENGTH) {
+            return new String(chars, offset, length);
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String cached = slots[slot];
+        if (cached != null && matches(cached, chars, offset, length)) {
+            return cached;
+        }
+        String value = new String(chars, offset, length);
+        slots[slot] = value;
+        return value;
+    }
+
+    private static boolean matches(String cached, char[] chars, int offset, int length) {
+        if (cached.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (cached.charAt(i) != chars[offset + i]) return false;
+        }
+        return true;
+    }
+}
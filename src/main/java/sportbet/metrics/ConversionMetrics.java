@@ -0,0 +1,138 @@
+package sportbet.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import sportbet.errors.ErrorCode;
+
+// Counters and per-stage latency histograms for a conversion run; safe to update from many threads
+public final class ConversionMetrics {
+
+    // Pipeline stages timed per market
+    public enum Stage {
+        READ,     // parse and bind one RawMarket
+        CONVERT,  // MarketConverter.convert
+        WRITE     // serialize one ParsedMarket
+    }
+
+    private static final ErrorCode[] CODES = ErrorCode.values();
+    private static final Stage[] STAGES = Stage.values();
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder markets = new LongAdder();
+    private final LongAdder converted = new LongAdder();
+    private final LongAdder selections = new LongAdder();
+    private final LongAdder[] failures = new LongAdder[CODES.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[STAGES.length];
+    private final PipelineStats pipeline = new PipelineStats();
+
+    public ConversionMetrics() {
+        for (int i = 0; i < failures.length; i++) {
+            failures[i] = new LongAdder();
+        }
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    public void recordConverted(int selectionCount) {
+        markets.increment();
+        converted.increment();
+        selections.add(selectionCount);
+    }
+
+    public void recordFailure(ErrorCode code) {
+        markets.increment();
+        failures[code.ordinal()].increment();
+    }
+
+    public void recordLatency(Stage stage, long nanos) {
+        latencies[stage.ordinal()].record(nanos);
+    }
+
+    // Releases the calling thread's latency recorders; see LatencyHistogram.releaseThread()
+    public void releaseThread() {
+        for (LatencyHistogram latency : latencies) {
+            latency.releaseThread();
+        }
+    }
+
+    public LatencyHistogram latency(Stage stage) {
+        return latencies[stage.ordinal()];
+    }
+
+    // Queue depths and stage throughput; only reported once a pipelined conversion configured it
+    public PipelineStats pipeline() {
+        return pipeline;
+    }
+
+    public long getMarkets() {
+        return markets.sum();
+    }
+
+    public long getConverted() {
+        return converted.sum();
+    }
+
+    public long getSelections() {
+        return selections.sum();
+    }
+
+    public long getFailures(ErrorCode code) {
+        return failures[code.ordinal()].sum();
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    // One line for periodic progress output
+    public String progressLine() {
+        double seconds = getElapsedNanos() / 1e9;
+        long marketCount = getMarkets();
+        String line = String.format(Locale.ROOT, "[metrics] %.1fs markets=%d (%.0f/s) selections=%d (%.0f/s) failures=%s",
+                seconds, marketCount, rate(marketCount, seconds), getSelections(), rate(getSelections(), seconds),
+                failureSummary());
+        return pipeline.isActive() ? line + " " + pipeline.progressFragment() : line;
+    }
+
+    // Multi-line report with throughput, failures by code and latency per stage
+    public String report() {
+        double seconds = getElapsedNanos() / 1e9;
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Elapsed: %.3f s%n", seconds));
+        out.append(String.format(Locale.ROOT, "Markets: %d converted, %d failed (%.0f markets/sec)%n",
+                getConverted(), getMarkets() - getConverted(), rate(getMarkets(), seconds)));
+        out.append(String.format(Locale.ROOT, "Selections: %d (%.0f selections/sec)%n",
+                getSelections(), rate(getSelections(), seconds)));
+        out.append("Failures: ").append(failureSummary()).append(System.lineSeparator());
+        for (Stage stage : STAGES) {
+            LatencyHistogram.Snapshot snapshot = latency(stage).snapshot();
+            if (snapshot.getCount() > 0) {
+                out.append(String.format(Locale.ROOT, "Latency %-8s %s%n", stage.name().toLowerCase(Locale.ROOT), snapshot));
+            }
+        }
+        if (pipeline.isActive()) {
+            out.append(pipeline.report());
+        }
+        return out.toString();
+    }
+
+    private String failureSummary() {
+        StringBuilder out = new StringBuilder("{");
+        for (ErrorCode code : CODES) {
+            long count = getFailures(code);
+            if (count > 0) {
+                if (out.length() > 1) {
+                    out.append(", ");
+                }
+                out.append(code).append('=').append(count);
+            }
+        }
+        return out.append('}').toString();
+    }
+
+    private static double rate(long count, double seconds) {
+        return seconds <= 0 ? 0 : count / seconds;
+    }
+}
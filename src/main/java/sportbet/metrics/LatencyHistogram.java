@@ -0,0 +1,155 @@
+package sportbet.metrics;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Log-linear latency histogram in nanoseconds: 8 sub-buckets per power of two (<= 12.5% error).
+// Each recording thread owns its own counts, so record() is a few plain increments with no
+// contention; snapshot() sums all threads. Snapshots taken while threads still record are approximate.
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    // counts[0..BUCKETS) per bucket, then total nanos and max nanos
+    private static final int SUM = BUCKETS;
+    private static final int MAX = BUCKETS + 1;
+
+    private final Queue<long[]> recorders = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<long[]> local = new ThreadLocal<>();
+    // Counts of threads that have released their recorder; guarded by itself
+    private final long[] released = new long[BUCKETS + 2];
+
+    public void record(long nanos) {
+        long[] counts = local.get();
+        if (counts == null) {
+            counts = new long[BUCKETS + 2];
+            recorders.add(counts);
+            local.set(counts);
+        }
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts[bucket(nanos)]++;
+        counts[SUM] += nanos;
+        if (nanos > counts[MAX]) {
+            counts[MAX] = nanos;
+        }
+    }
+
+    // Folds the calling thread's counts into the totals and drops its recorder; called by short-lived
+    // threads before they end, so their recorders do not pile up
+    public void releaseThread() {
+        long[] counts = local.get();
+        if (counts == null) {
+            return;
+        }
+        local.remove();
+        synchronized (released) {
+            merge(released, counts);
+            recorders.remove(counts);
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] merged = new long[BUCKETS + 2];
+        synchronized (released) {
+            merge(merged, released);
+            for (long[] counts : recorders) {
+                merge(merged, counts);
+            }
+        }
+        return new Snapshot(merged);
+    }
+
+    private static void merge(long[] into, long[] counts) {
+        for (int i = 0; i < MAX; i++) {
+            into[i] += counts[i];
+        }
+        into[MAX] = Math.max(into[MAX], counts[MAX]);
+    }
+
+    // Threads currently holding a recorder, for tests
+    int recorderCount() {
+        return recorders.size();
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    // Smallest value that falls into the bucket
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+    }
+
+    // Immutable merged view of a histogram
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+
+        private Snapshot(long[] counts) {
+            this.counts = counts;
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += counts[i];
+            }
+            this.count = total;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMaxNanos() {
+            return counts[MAX];
+        }
+
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double) counts[SUM] / count;
+        }
+
+        // Upper edge of the bucket holding the given quantile (0..1), capped at the max
+        public long getPercentileNanos(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank && counts[i] > 0) {
+                    long upper = i + 1 < BUCKETS ? lowerBound(i + 1) - 1 : Long.MAX_VALUE;
+                    return Math.min(upper, counts[MAX]);
+                }
+            }
+            return counts[MAX];
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count
+                    + " mean=" + micros(getMeanNanos())
+                    + " p50=" + micros(getPercentileNanos(0.50))
+                    + " p90=" + micros(getPercentileNanos(0.90))
+                    + " p99=" + micros(getPercentileNanos(0.99))
+                    + " max=" + micros(getMaxNanos());
+        }
+
+        private static String micros(double nanos) {
+            return String.format(Locale.ROOT, "%.1fus", nanos / 1_000.0);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package sportbet.metrics;
+
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Prints ConversionMetrics.progressLine() at a fixed interval on a daemon thread until closed
+public final class MetricsReporter implements AutoCloseable {
+
+    private final ScheduledExecutorService scheduler;
+
+    public MetricsReporter(ConversionMetrics metrics, long intervalSeconds, PrintStream out) {
+        if (intervalSeconds <= 0) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> out.println(metrics.progressLine()),
+                intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package sportbet.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Busy/waiting time per pipeline stage and depth of the queue in front of each stage; safe to update from many threads
+public final class PipelineStats {
+
+    private static final ConversionMetrics.Stage[] STAGES = ConversionMetrics.Stage.values();
+
+    private final LongAdder[] markets = new LongAdder[STAGES.length];
+    private final LongAdder[] busyNanos = new LongAdder[STAGES.length];
+    private final LongAdder[] waitNanos = new LongAdder[STAGES.length];
+    private final AtomicInteger[] depth = new AtomicInteger[STAGES.length];
+    private final AtomicInteger[] maxDepth = new AtomicInteger[STAGES.length];
+    private final LongAdder[] depthSum = new LongAdder[STAGES.length];
+    private final LongAdder[] depthSamples = new LongAdder[STAGES.length];
+    private volatile int capacity;
+    private volatile int workers;
+
+    public PipelineStats() {
+        for (int i = 0; i < STAGES.length; i++) {
+            markets[i] = new LongAdder();
+            busyNanos[i] = new LongAdder();
+            waitNanos[i] = new LongAdder();
+            depth[i] = new AtomicInteger();
+            maxDepth[i] = new AtomicInteger();
+            depthSum[i] = new LongAdder();
+            depthSamples[i] = new LongAdder();
+        }
+    }
+
+    // Chunks in flight and converter threads of the pipeline, for the report
+    public void configure(int capacity, int workers) {
+        this.capacity = capacity;
+        this.workers = workers;
+    }
+
+    // Time a stage spent on work, and the markets it handled in that time
+    public void recordBusy(ConversionMetrics.Stage stage, int marketCount, long nanos) {
+        markets[stage.ordinal()].add(marketCount);
+        busyNanos[stage.ordinal()].add(nanos);
+    }
+
+    // Time a stage spent blocked: reader on backpressure, converters and writer on an empty queue
+    public void recordWait(ConversionMetrics.Stage stage, long nanos) {
+        waitNanos[stage.ordinal()].add(nanos);
+    }
+
+    // A chunk was queued in front of stage; samples the depth it found
+    public void enqueued(ConversionMetrics.Stage stage) {
+        int i = stage.ordinal();
+        int now = depth[i].incrementAndGet();
+        maxDepth[i].accumulateAndGet(now, Math::max);
+        depthSum[i].add(now);
+        depthSamples[i].increment();
+    }
+
+    public void dequeued(ConversionMetrics.Stage stage) {
+        depth[stage.ordinal()].decrementAndGet();
+    }
+
+    public boolean isActive() {
+        return capacity > 0;
+    }
+
+    public long getMarkets(ConversionMetrics.Stage stage) {
+        return markets[stage.ordinal()].sum();
+    }
+
+    public long getBusyNanos(ConversionMetrics.Stage stage) {
+        return busyNanos[stage.ordinal()].sum();
+    }
+
+    public long getWaitNanos(ConversionMetrics.Stage stage) {
+        return waitNanos[stage.ordinal()].sum();
+    }
+
+    // Chunks currently queued in front of stage
+    public int getDepth(ConversionMetrics.Stage stage) {
+        return depth[stage.ordinal()].get();
+    }
+
+    public int getMaxDepth(ConversionMetrics.Stage stage) {
+        return maxDepth[stage.ordinal()].get();
+    }
+
+    // Fragment for the periodic progress line
+    public String progressFragment() {
+        return String.format(Locale.ROOT, "queues=convert:%d write:%d/%d",
+                getDepth(ConversionMetrics.Stage.CONVERT), getDepth(ConversionMetrics.Stage.WRITE), capacity);
+    }
+
+    // One line per stage with its own throughput, then one line per queue
+    public String report() {
+        StringBuilder out = new StringBuilder();
+        for (ConversionMetrics.Stage stage : STAGES) {
+            // Converter busy time is summed over the workers, so its throughput is per thread times workers
+            int threads = stage == ConversionMetrics.Stage.CONVERT ? Math.max(1, workers) : 1;
+            double busy = getBusyNanos(stage) / 1e9;
+            out.append(String.format(Locale.ROOT, "Pipeline %-8s %d markets, busy %.3f s, waiting %.3f s (%.0f markets/sec)%n",
+                    stage.name().toLowerCase(Locale.ROOT), getMarkets(stage), busy, getWaitNanos(stage) / 1e9,
+                    busy <= 0 ? 0 : getMarkets(stage) * threads / busy));
+        }
+        for (ConversionMetrics.Stage stage : STAGES) {
+            long samples = depthSamples[stage.ordinal()].sum();
+            if (samples > 0) {
+                out.append(String.format(Locale.ROOT, "Queue %-8s depth avg %.1f, max %d of %d chunks%n",
+                        stage.name().toLowerCase(Locale.ROOT), (double) depthSum[stage.ordinal()].sum() / samples,
+                        getMaxDepth(stage), capacity));
+            }
+        }
+        return out.toString();
+    }
+}
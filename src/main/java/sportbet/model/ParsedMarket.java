@@ -1,60 +1,115 @@
 package sportbet.model;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-// Parsed market with UID, type ID, specifiers and selections
-public class ParsedMarket {
-    private String market_uid;
-    private String market_type_id;
-    private Map<String, String> specifiers;
-    private List<ParsedSelection> selections;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
-    public ParsedMarket() {}
+import sportbet.domain.SpecifierType;
 
+// Immutable parsed market with UID, type ID, at most one specifier and a flat array of selections.
+// Serialized by ParsedMarketSerializer in the same JSON shape as the former bean with a specifiers map.
+@JsonSerialize(using = ParsedMarketSerializer.class)
+public final class ParsedMarket {
+
+    private static final ParsedSelection[] NO_SELECTIONS = new ParsedSelection[0];
+
+    private final String eventId;
+    private final String market_uid;
+    private final String market_type_id;
+    private final SpecifierType specifierType;
+    private final String specifierValue;
+    private final ParsedSelection[] selections;
+
+    // The selections array is kept as is, not copied; callers must not modify it afterwards
     public ParsedMarket(String market_uid, String market_type_id,
-                        Map<String, String> specifiers, List<ParsedSelection> selections) {
+                        SpecifierType specifierType, String specifierValue, ParsedSelection[] selections) {
+        this(null, market_uid, market_type_id, specifierType, specifierValue, selections);
+    }
+
+    // As above, also keeping the raw market's event ID, which is not serialized
+    public ParsedMarket(String eventId, String market_uid, String market_type_id,
+                        SpecifierType specifierType, String specifierValue, ParsedSelection[] selections) {
+        if (specifierType != SpecifierType.NONE && specifierValue == null) {
+            throw new IllegalArgumentException("specifierValue is required for " + specifierType);
+        }
+        this.eventId = eventId;
         this.market_uid = market_uid;
         this.market_type_id = market_type_id;
-        this.specifiers = specifiers;
+        this.specifierType = specifierType;
+        this.specifierValue = specifierType == SpecifierType.NONE ? null : specifierValue;
         this.selections = selections;
     }
 
-    public String getMarket_uid() {
-        return market_uid;
+    // Convenience for tests and tombstones; specifiers holds at most one known key ("total" or "hcp")
+    public ParsedMarket(String market_uid, String market_type_id,
+                        Map<String, String> specifiers, List<ParsedSelection> selections) {
+        this(market_uid, market_type_id, specifierTypeOf(specifiers), singleValue(specifiers),
+                selections.isEmpty() ? NO_SELECTIONS : selections.toArray(NO_SELECTIONS));
     }
 
-    public void setMarket_uid(String market_uid) {
-        this.market_uid = market_uid;
+    private static SpecifierType specifierTypeOf(Map<String, String> specifiers) {
+        if (specifiers.isEmpty()) return SpecifierType.NONE;
+        if (specifiers.size() > 1) {
+            throw new IllegalArgumentException("At most one specifier is supported: " + specifiers);
+        }
+        String key = specifiers.keySet().iterator().next();
+        SpecifierType type = SpecifierType.fromKey(key);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown specifier: " + key);
+        }
+        return type;
+    }
+
+    private static String singleValue(Map<String, String> specifiers) {
+        return specifiers.isEmpty() ? null : specifiers.values().iterator().next();
+    }
+
+    // Event ID of the raw market this was converted from; null for tombstones and hand-built markets
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getMarket_uid() {
+        return market_uid;
     }
 
     public String getMarket_type_id() {
         return market_type_id;
     }
 
-    public void setMarket_type_id(String market_type_id) {
-        this.market_type_id = market_type_id;
+    public SpecifierType getSpecifierType() {
+        return specifierType;
+    }
+
+    // null for SpecifierType.NONE
+    public String getSpecifierValue() {
+        return specifierValue;
     }
 
+    // Map view of the specifier, built on each call; prefer getSpecifierType/getSpecifierValue
     public Map<String, String> getSpecifiers() {
-        return specifiers;
+        return specifierType == SpecifierType.NONE ? Map.of() : Map.of(specifierType.getKey(), specifierValue);
     }
 
-    public void setSpecifiers(Map<String, String> specifiers) {
-        this.specifiers = specifiers;
+    public int getSelectionCount() {
+        return selections.length;
     }
 
-    public List<ParsedSelection> getSelections() {
-        return selections;
+    public ParsedSelection getSelection(int index) {
+        return selections[index];
     }
 
-    public void setSelections(List<ParsedSelection> selections) {
-        this.selections = selections;
+    // Read-only list view over the selections
+    public List<ParsedSelection> getSelections() {
+        return Collections.unmodifiableList(Arrays.asList(selections));
     }
 
     @Override
     public String toString() {
         return "ParsedMarket{market_uid='" + market_uid + "', market_type_id='" + market_type_id +
-                "', specifiers=" + specifiers + ", selections=" + selections + "}";
+                "', specifiers=" + getSpecifiers() + ", selections=" + getSelections() + "}";
     }
 }
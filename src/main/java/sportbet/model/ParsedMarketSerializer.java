@@ -0,0 +1,93 @@
+package sportbet.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import sportbet.domain.SpecifierType;
+
+// Writes ParsedMarket field by field, in the exact shape and order the bean serializer produced:
+// {"market_uid", "market_type_id", "specifiers": {key: value}, "selections": [...]}
+public final class ParsedMarketSerializer extends StdSerializer<ParsedMarket> {
+
+    private static final SerializedString MARKET_UID = new SerializedString("market_uid");
+    private static final SerializedString MARKET_TYPE_ID = new SerializedString("market_type_id");
+    private static final SerializedString SPECIFIERS = new SerializedString("specifiers");
+    private static final SerializedString SELECTIONS = new SerializedString("selections");
+    private static final SerializedString SELECTION_UID = new SerializedString("selection_uid");
+    private static final SerializedString SELECTION_TYPE_ID = new SerializedString("selection_type_id");
+    private static final SerializedString DECIMAL_ODDS = new SerializedString("decimal_odds");
+
+    // Selection type IDs are small, so their string forms are cached instead of built per write
+    private static final String[] TYPE_ID_STRINGS = new String[4096];
+
+    public ParsedMarketSerializer() {
+        super(ParsedMarket.class);
+    }
+
+    @Override
+    public void serialize(ParsedMarket market, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(market);
+        gen.writeFieldName(MARKET_UID);
+        gen.writeString(market.getMarket_uid());
+        gen.writeFieldName(MARKET_TYPE_ID);
+        gen.writeString(market.getMarket_type_id());
+
+        gen.writeFieldName(SPECIFIERS);
+        gen.writeStartObject();
+        if (market.getSpecifierType() != SpecifierType.NONE) {
+            gen.writeStringField(market.getSpecifierType().getKey(), market.getSpecifierValue());
+        }
+        gen.writeEndObject();
+
+        int count = market.getSelectionCount();
+        gen.writeFieldName(SELECTIONS);
+        gen.writeStartArray(market, count);
+        for (int i = 0; i < count; i++) {
+            writeSelection(market.getSelection(i), gen);
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    static void writeSelection(ParsedSelection selection, JsonGenerator gen) throws IOException {
+        gen.writeStartObject(selection);
+        gen.writeFieldName(SELECTION_UID);
+        gen.writeString(selection.getSelection_uid());
+        gen.writeFieldName(SELECTION_TYPE_ID);
+        gen.writeString(typeIdString(selection.getSelection_type_id()));
+        gen.writeFieldName(DECIMAL_ODDS);
+        gen.writeNumber(selection.getDecimal_odds());
+        gen.writeEndObject();
+    }
+
+    // Racy but safe: Strings are immutable, so a lost update only means building one twice
+    private static String typeIdString(int typeId) {
+        if (typeId < 0 || typeId >= TYPE_ID_STRINGS.length) {
+            return Integer.toString(typeId);
+        }
+        String cached = TYPE_ID_STRINGS[typeId];
+        if (cached == null) {
+            cached = Integer.toString(typeId);
+            TYPE_ID_STRINGS[typeId] = cached;
+        }
+        return cached;
+    }
+
+    // Same shape for a selection serialized on its own
+    public static final class SelectionSerializer extends StdSerializer<ParsedSelection> {
+
+        public SelectionSerializer() {
+            super(ParsedSelection.class);
+        }
+
+        @Override
+        public void serialize(ParsedSelection selection, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            writeSelection(selection, gen);
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package sportbet.model;
 
-// Parsed selection with UID, type ID and odds
-public class ParsedSelection {
-    private String selection_uid;
-    private String selection_type_id;
-    private double decimal_odds;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
-    public ParsedSelection() {}
+// Immutable parsed selection with UID, type ID and odds; serialized by ParsedMarketSerializer
+@JsonSerialize(using = ParsedMarketSerializer.SelectionSerializer.class)
+public final class ParsedSelection {
+    private final String selection_uid;
+    private final int selection_type_id;
+    private final double decimal_odds;
 
-    public ParsedSelection(String selection_uid, String selection_type_id, double decimal_odds) {
+    public ParsedSelection(String selection_uid, int selection_type_id, double decimal_odds) {
         this.selection_uid = selection_uid;
         this.selection_type_id = selection_type_id;
         this.decimal_odds = decimal_odds;
@@ -18,26 +19,14 @@ public class ParsedSelection {
         return selection_uid;
     }
 
-    public void setSelection_uid(String selection_uid) {
-        this.selection_uid = selection_uid;
-    }
-
-    public String getSelection_type_id() {
+    public int getSelection_type_id() {
         return selection_type_id;
     }
 
-    public void setSelection_type_id(String selection_type_id) {
-        this.selection_type_id = selection_type_id;
-    }
-
     public double getDecimal_odds() {
         return decimal_odds;
     }
 
-    public void setDecimal_odds(double decimal_odds) {
-        this.decimal_odds = decimal_odds;
-    }
-
     @Override
     public String toString() {
         return "ParsedSelection{selection_uid='" + selection_uid + "', selection_type_id=" + selection_type_id +
@@ -1,15 +1,18 @@
 package sportbet.model;
 
-// Raw selection data from input JSON
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// Raw selection data from input JSON; odds are kept as a primitive with a presence flag
 public class RawSelection {
     private String name;
-    private Double odds;
+    private double oddsValue;
+    private boolean hasOdds;
 
     public RawSelection() {}
 
     public RawSelection(String name, Double odds) {
         this.name = name;
-        this.odds = odds;
+        setOdds(odds);
     }
 
     public String getName() {
@@ -20,16 +23,38 @@ public class RawSelection {
         this.name = name;
     }
 
+    // Boxed view for callers that need null for missing odds; allocates, prefer hasOdds/getOddsValue
     public Double getOdds() {
-        return odds;
+        return hasOdds ? oddsValue : null;
     }
 
     public void setOdds(Double odds) {
-        this.odds = odds;
+        this.hasOdds = odds != null;
+        this.oddsValue = odds != null ? odds : 0.0;
+    }
+
+    public boolean hasOdds() {
+        return hasOdds;
+    }
+
+    // 0.0 when the odds are missing
+    @JsonIgnore
+    public double getOddsValue() {
+        return oddsValue;
+    }
+
+    public void setOddsValue(double oddsValue) {
+        this.oddsValue = oddsValue;
+        this.hasOdds = true;
+    }
+
+    public void clearOdds() {
+        this.oddsValue = 0.0;
+        this.hasOdds = false;
     }
 
     @Override
     public String toString() {
-        return "RawSelection{name='" + name + "', odds=" + odds + "}";
+        return "RawSelection{name='" + name + "', odds=" + getOdds() + "}";
     }
 }
@@ -0,0 +1,46 @@
+package sportbet.normalize;
+
+import java.util.Locale;
+
+/**
+ * Character helpers for the allocation-free ASCII fast paths.
+ * Each one matches what String/regex do for ASCII input.
+ */
+public final class AsciiText {
+
+    // Cached answer to "does the default locale lowercase 'I' to 'i'" (false for tr/az)
+    private static volatile Locale checkedLocale;
+    private static volatile boolean plainLowercaseI;
+
+    private AsciiText() {}
+
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // Same set as the regex class \s: [ \t\n\x0B\f\r]
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    public static char toLowerCase(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * True when {@link String#toLowerCase()} cannot be replaced by {@link #toLowerCase(char)}
+     * for this character: non-ASCII, or 'I' under a locale that lowercases it differently.
+     */
+    public static boolean needsLocaleLowerCase(char c) {
+        return c >= 0x80 || (c == 'I' && !lowercasesIToAsciiI());
+    }
+
+    private static boolean lowercasesIToAsciiI() {
+        Locale locale = Locale.getDefault();
+        if (locale != checkedLocale) {
+            plainLowercaseI = "I".toLowerCase(locale).equals("i");
+            checkedLocale = locale;
+        }
+        return plainLowercaseI;
+    }
+}
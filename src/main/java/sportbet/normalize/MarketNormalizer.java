@@ -70,19 +70,13 @@ public class MarketNormalizer {
      * @return clean name
      */
     public String cleanSelectionName(SelectionNameParams params) {
-        String name = params.getSelectionName();
-        
-        if (params.isRemoveNumbers()) {
-            // Remove numbers and symbols like +1.5, -2.5, etc.
-            name = name.replaceAll("[+\\-]?\\d+(?:\\.\\d+)?", "");
-        }
-        
-        if (params.isTrimWhitespace()) {
-            // Remove extra whitespaces
-            name = name.replaceAll("\\s+", " ").trim();
-        }
-        
-        return name;
+        // Numbers and symbols like +1.5, -2.5 and extra whitespace are removed in one pass
+        return SelectionNameCleaner.clean(
+            params.getSelectionName(),
+            false,
+            params.isRemoveNumbers(),
+            params.isTrimWhitespace()
+        );
     }
 
     /**
@@ -140,11 +134,7 @@ public class MarketNormalizer {
      * Normalization of selection name for identification
      */
     public String normalizeSelectionForIdentification(String selectionName) {
-        SelectionNameParams params = new SelectionNameParams(
-            selectionName,
-            true,  // remove numbers
-            true   // trim whitespace
-        );
-        return cleanSelectionName(params).toLowerCase();
+        Objects.requireNonNull(selectionName, "selectionName cannot be null");
+        return SelectionNameCleaner.clean(selectionName);
     }
 }
@@ -0,0 +1,184 @@
+package sportbet.normalize;
+
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass cleaner for selection names.
+ * 
+ * Lowercases, strips signed decimals ("+1.5", "-2", "3.25") and collapses
+ * whitespace while scanning the name once. The result is written into a
+ * per-thread scratch buffer, so at most one String is allocated per call, and
+ * none at all when the name is already clean. {@link #tokenize(String, SelectionToken)}
+ * runs the same scan into a reusable token and also reports the first number,
+ * which the converter needs for TOTAL and HCP specifiers.
+ * 
+ * The scan only handles ASCII input; anything else goes through the regex
+ * path, which is what the converter used before and defines the expected output.
+ */
+public final class SelectionNameCleaner {
+
+    static final Pattern SIGNED_DECIMAL = Pattern.compile("[+-]?\\d+(?:\\.\\d+)?");
+    static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int UNCHANGED = -1;
+    private static final int NEEDS_REGEX = -2;
+
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[64]);
+
+    private SelectionNameCleaner() {}
+
+    /**
+     * Cleans a selection name for lookup: lowercase, no numbers, single spaces, trimmed.
+     * Example: "  Team A  +1.5 " → "team a"
+     */
+    public static String clean(String name) {
+        return clean(name, true, true, true);
+    }
+
+    /**
+     * Cleans a selection name with the given steps enabled.
+     * 
+     * @param name selection name, not null
+     * @param lowercase lowercase letters
+     * @param removeNumbers remove signed decimals such as +1.5 or -2
+     * @param collapseWhitespace collapse whitespace runs to one space and trim
+     * @return clean name
+     */
+    public static String clean(String name, boolean lowercase, boolean removeNumbers, boolean collapseWhitespace) {
+        int len = name.length();
+        char[] out = SCRATCH.get();
+        if (out.length < len) {
+            out = new char[Math.max(len, out.length * 2)];
+            SCRATCH.set(out);
+        }
+
+        int k = scan(name, lowercase, removeNumbers, collapseWhitespace, out, null);
+        if (k == NEEDS_REGEX) {
+            return cleanWithRegex(name, lowercase, removeNumbers, collapseWhitespace);
+        }
+        return k == UNCHANGED ? name : new String(out, 0, k);
+    }
+
+    /**
+     * Cleans a selection name like {@link #clean(String)} and finds its first signed
+     * decimal in the same scan. The cleaned name stays in the token's buffer, so an
+     * ASCII name is tokenized without allocating.
+     * 
+     * @param name selection name, not null
+     * @param token receives the cleaned name and the number position
+     */
+    public static void tokenize(String name, SelectionToken token) {
+        int len = name.length();
+        token.reset(name);
+        char[] out = token.buffer(len);
+
+        int k = scan(name, true, true, true, out, token);
+        if (k == NEEDS_REGEX) {
+            token.setCleanString(cleanWithRegex(name, true, true, true));
+            token.setNumber(-1, 0);
+            for (int i = 0; i < len; i++) {
+                int end = numberEnd(name, i, len);
+                if (end > i) {
+                    token.setNumber(i, end);
+                    break;
+                }
+            }
+            return;
+        }
+        token.setLength(k == UNCHANGED ? len : k);
+    }
+
+    /*
+     * Writes the cleaned name into out and returns its length, UNCHANGED when it equals
+     * the input, or NEEDS_REGEX at the first character the scan cannot handle. When token
+     * is not null the first removed number is recorded in it.
+     */
+    private static int scan(String name, boolean lowercase, boolean removeNumbers, boolean collapseWhitespace,
+                            char[] out, SelectionToken token) {
+        int len = name.length();
+        int k = 0;
+        boolean changed = false;
+        int i = 0;
+        while (i < len) {
+            char c = name.charAt(i);
+            if (c >= 0x80 || (lowercase && AsciiText.needsLocaleLowerCase(c))) {
+                return NEEDS_REGEX;
+            }
+
+            if (removeNumbers) {
+                int end = numberEnd(name, i, len);
+                if (end > i) {
+                    if (token != null && !token.hasNumber()) {
+                        token.setNumber(i, end);
+                    }
+                    i = end;
+                    changed = true;
+                    continue;
+                }
+            }
+
+            if (collapseWhitespace && c <= ' ') {
+                boolean whitespace = AsciiText.isRegexWhitespace(c);
+                // Leading run (trimmed) or the rest of a whitespace run (collapsed)
+                if (k == 0 || (whitespace && out[k - 1] == ' ')) {
+                    changed = true;
+                    i++;
+                    continue;
+                }
+                if (whitespace && c != ' ') {
+                    c = ' ';
+                    changed = true;
+                }
+            } else if (lowercase && c >= 'A' && c <= 'Z') {
+                c = AsciiText.toLowerCase(c);
+                changed = true;
+            }
+
+            out[k++] = c;
+            i++;
+        }
+
+        if (collapseWhitespace) {
+            while (k > 0 && out[k - 1] <= ' ') {
+                k--;
+                changed = true;
+            }
+        }
+
+        return changed ? k : UNCHANGED;
+    }
+
+    /**
+     * Regex implementation of {@link #clean(String, boolean, boolean, boolean)}.
+     * Used for non-ASCII names; produces the same result as the scan for everything else.
+     */
+    public static String cleanWithRegex(String name, boolean lowercase, boolean removeNumbers, boolean collapseWhitespace) {
+        String cleaned = lowercase ? name.toLowerCase() : name;
+        if (removeNumbers) {
+            cleaned = SIGNED_DECIMAL.matcher(cleaned).replaceAll("");
+        }
+        if (collapseWhitespace) {
+            cleaned = WHITESPACE.matcher(cleaned).replaceAll(" ").trim();
+        }
+        return cleaned;
+    }
+
+    // End index of a signed decimal starting at 'from', or 'from' when there is none
+    static int numberEnd(CharSequence s, int from, int len) {
+        int j = from;
+        char c = s.charAt(j);
+        if (c == '+' || c == '-') {
+            if (j + 1 >= len || !AsciiText.isDigit(s.charAt(j + 1))) return from;
+            j++;
+        } else if (!AsciiText.isDigit(c)) {
+            return from;
+        }
+
+        while (j < len && AsciiText.isDigit(s.charAt(j))) j++;
+        if (j + 1 < len && s.charAt(j) == '.' && AsciiText.isDigit(s.charAt(j + 1))) {
+            j += 2;
+            while (j < len && AsciiText.isDigit(s.charAt(j))) j++;
+        }
+        return j;
+    }
+}
@@ -0,0 +1,112 @@
+package sportbet.normalize;
+
+/**
+ * Reusable result of {@link SelectionNameCleaner#tokenize(String, SelectionToken)}.
+ * 
+ * Holds the cleaned name as a CharSequence over an internal buffer, so it can be
+ * resolved against an {@link sportbet.domain.AliasIndex} without building a String,
+ * and the position of the first signed decimal in the original name, which is only
+ * turned into a String when asked for. Not thread-safe; one instance is meant to be
+ * reused for all selections of a market.
+ */
+public final class SelectionToken implements CharSequence {
+
+    private char[] chars = new char[32];
+    private int length;
+    // Set instead of chars when the name went through the regex path
+    private String cleanString;
+
+    private String source;
+    private int numberStart = -1;
+    private int numberEnd;
+
+    // Buffer of at least the given capacity for the scan to write into
+    char[] buffer(int capacity) {
+        if (chars.length < capacity) {
+            chars = new char[Math.max(capacity, chars.length * 2)];
+        }
+        return chars;
+    }
+
+    void reset(String source) {
+        this.source = source;
+        this.length = 0;
+        this.cleanString = null;
+        this.numberStart = -1;
+        this.numberEnd = 0;
+    }
+
+    void setLength(int length) {
+        this.length = length;
+    }
+
+    void setCleanString(String cleanString) {
+        this.cleanString = cleanString;
+    }
+
+    void setNumber(int start, int end) {
+        this.numberStart = start;
+        this.numberEnd = end;
+    }
+
+    /**
+     * @return true if the original name contains a decimal such as "2.5" or "-1"
+     */
+    public boolean hasNumber() {
+        return numberStart >= 0;
+    }
+
+    /**
+     * First decimal of the original name, e.g. "+1.5" for "Team A +1.5".
+     * 
+     * @param signed keep a leading '+' or '-'
+     * @return the number, or null when there is none
+     */
+    public String number(boolean signed) {
+        if (numberStart < 0) return null;
+        return source.substring(numberStart(signed), numberEnd);
+    }
+
+    /**
+     * Same as {@code "0".equals(number(signed))} without allocating.
+     */
+    public boolean isZero(boolean signed) {
+        int start = numberStart(signed);
+        return numberStart >= 0 && numberEnd - start == 1 && source.charAt(start) == '0';
+    }
+
+    private int numberStart(boolean signed) {
+        if (numberStart >= 0 && !signed) {
+            char c = source.charAt(numberStart);
+            if (c == '+' || c == '-') return numberStart + 1;
+        }
+        return numberStart;
+    }
+
+    @Override
+    public int length() {
+        return cleanString != null ? cleanString.length() : length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (cleanString != null) return cleanString.charAt(index);
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    /**
+     * @return The cleaned name, same as {@link SelectionNameCleaner#clean(String)}
+     */
+    @Override
+    public String toString() {
+        return cleanString != null ? cleanString : new String(chars, 0, length);
+    }
+}
@@ -0,0 +1,138 @@
+package sportbet.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import sportbet.errors.DomainException;
+
+/**
+ * Resident HTTP front end for {@link ConversionService}, bound to a local address.
+ * <ul>
+ *   <li>POST /convert - body is a JSON array of raw markets, response is the service JSON;
+ *       the X-Conversion-Micros header carries the time spent converting</li>
+ *   <li>GET /health - plain "ok" with request and market counters</li>
+ * </ul>
+ * Requests run on virtual threads when the JVM has them (Java 21+) and on a cached
+ * pool of daemon threads otherwise.
+ */
+public class ConversionServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ConversionService service;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder markets = new LongAdder();
+
+    /**
+     * Binds the server; call {@link #start()} to accept requests.
+     *
+     * @param address Local address; port 0 picks a free port
+     */
+    public ConversionServer(InetSocketAddress address, ConversionService service) throws IOException {
+        this.service = service;
+        this.server = HttpServer.create(address, 0);
+        this.executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/convert", this::handleConvert);
+        server.createContext("/health", this::handleHealth);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    // Actual bound port, useful when constructed with port 0
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleConvert(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendError(exchange, 405, "Use POST with a JSON array of markets");
+                return;
+            }
+
+            // Read the body first so the timing header covers conversion only, not the network
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            ByteArrayOutputStream response = new ByteArrayOutputStream(Math.max(8192, body.length * 2));
+            long start = System.nanoTime();
+            int count;
+            try {
+                count = service.convert(new ByteArrayInputStream(body), response);
+            } catch (DomainException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+            long micros = (System.nanoTime() - start) / 1_000;
+            requests.increment();
+            markets.add(count);
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("X-Conversion-Micros", Long.toString(micros));
+            exchange.sendResponseHeaders(200, response.size());
+            try (OutputStream out = exchange.getResponseBody()) {
+                response.writeTo(out);
+            }
+        }
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = ("ok requests=" + requests.sum() + " markets=" + markets.sum() + "\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = ("{\"error\":\"" + new String(JsonStringEncoder.getInstance().quoteAsString(String.valueOf(message)))
+                + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() is looked up reflectively because the build targets Java 17
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "conversion-request-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package sportbet.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.core.ConversionResult;
+import sportbet.core.MarketConverter;
+import sportbet.errors.FileFormatException;
+import sportbet.errors.JsonReadException;
+import sportbet.model.RawMarket;
+import sportbet.model.RawSelection;
+
+/**
+ * Converts one request body - a JSON array of RawMarket objects - into a response
+ * of the form {"markets":[ParsedMarket...],"errors":[{"index":i,"name":...,"message":...}]}.
+ * Markets are bound and written one at a time; the converter and mapper are shared
+ * by all requests.
+ */
+public class ConversionService {
+
+    private final ObjectMapper mapper;
+    private final MarketConverter converter;
+
+    public ConversionService(ObjectMapper mapper, MarketConverter converter) {
+        this.mapper = mapper;
+        this.converter = converter;
+    }
+
+    /**
+     * Converts the markets in {@code body} and writes the response JSON to {@code out}.
+     *
+     * @return number of markets in the request
+     * @throws JsonReadException if the body is not valid JSON
+     * @throws FileFormatException if the body is not a JSON array
+     */
+    public int convert(InputStream body, OutputStream out) throws IOException {
+        return convert(converter, body, out);
+    }
+
+    private int convert(MarketConverter converter, InputStream body, OutputStream out) throws IOException {
+        List<Rejected> errors = new ArrayList<>();
+        int count = 0;
+
+        try (JsonParser parser = mapper.getFactory().createParser(body);
+             JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            JsonToken root;
+            try {
+                root = parser.nextToken();
+            } catch (IOException e) {
+                throw new JsonReadException("Failed to read/parse JSON request: " + e.getMessage(), e);
+            }
+            if (root != JsonToken.START_ARRAY) {
+                throw new FileFormatException("Request body must be a JSON array of markets");
+            }
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("markets");
+            RawMarket raw;
+            while ((raw = next(parser, count)) != null) {
+                ConversionResult result;
+                try {
+                    result = converter.tryConvert(raw);
+                } catch (RuntimeException e) {
+                    result = ConversionResult.failure(e);
+                }
+                if (result.isSuccess()) {
+                    mapper.writeValue(generator, result.getMarket());
+                } else {
+                    errors.add(new Rejected(count, raw.getName(), result.getErrorMessage()));
+                }
+                count++;
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("errors");
+            for (Rejected error : errors) {
+                generator.writeStartObject();
+                generator.writeNumberField("index", error.index);
+                generator.writeStringField("name", error.name);
+                generator.writeStringField("message", error.message);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return count;
+    }
+
+    // Binds the next array element; null at the end of the array
+    private RawMarket next(JsonParser parser, int index) {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new FileFormatException("Market #" + (index + 1) + " is not a JSON object");
+            }
+            return mapper.readValue(parser, RawMarket.class);
+        } catch (IOException e) {
+            throw new JsonReadException("Failed to read/parse JSON request at market #" + (index + 1)
+                    + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Pushes a small built-in batch through the full parse/convert/write path so the
+     * JIT has compiled it before the first real request arrives. The batch runs through
+     * an isolated copy of the converter, so its event and unknown market name never
+     * reach the shared UID cache or unmapped-name counts.
+     */
+    public void warmUp(int iterations) {
+        MarketConverter warmUpConverter = converter.isolatedCopy();
+        byte[] batch;
+        try {
+            batch = mapper.writeValueAsBytes(warmUpMarkets());
+            for (int i = 0; i < iterations; i++) {
+                convert(warmUpConverter, new ByteArrayInputStream(batch), OutputStream.nullOutputStream());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Warm-up failed", e);
+        }
+    }
+
+    // One market per supported shape plus an unknown one, so the error path gets compiled too
+    private static List<RawMarket> warmUpMarkets() {
+        List<RawMarket> markets = new ArrayList<>();
+        markets.add(new RawMarket("1x2", "123456", List.of(
+                new RawSelection("Team A", 1.65), new RawSelection("draw", 3.2), new RawSelection("Team B", 2.6))));
+        markets.add(new RawMarket("Total", "123456", List.of(
+                new RawSelection("over 2.5", 1.85), new RawSelection("under 2.5", 1.95))));
+        markets.add(new RawMarket("1st half - total", "123456", List.of(
+                new RawSelection("over 1.5", 2.1), new RawSelection("under 1.5", 1.7))));
+        markets.add(new RawMarket("Handicap", "123456", List.of(
+                new RawSelection("Team A -1.5", 2.5), new RawSelection("Team B +1.5", 1.5))));
+        markets.add(new RawMarket("Both teams to score", "123456", List.of(
+                new RawSelection("yes", 1.8), new RawSelection("no", 1.9))));
+        markets.add(new RawMarket("corners total", "123456", List.of(
+                new RawSelection("over 9.5", 1.9))));
+        return markets;
+    }
+
+    private static final class Rejected {
+        final int index;
+        final String name;
+        final String message;
+
+        Rejected(int index, String name, String message) {
+            this.index = index;
+            this.name = name;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package sportbet.uid;
+
+import java.util.Arrays;
+
+/**
+ * Assigns dense slot numbers 0, 1, 2, ... to numeric event IDs in the order
+ * they are first seen, so per-event data can live in plain arrays indexed
+ * by slot. Open addressing over a long[] of keys: finding an event neither
+ * hashes a string nor boxes the ID. Not thread-safe.
+ */
+public final class EventIdIndex {
+
+    // Event IDs are never negative, so this marks a free table entry
+    private static final long FREE = -1;
+
+    private long[] keys;
+    private int[] slots;
+    private long[] eventIds = new long[16];
+    private int size;
+
+    public EventIdIndex() {
+        allocate(32);
+    }
+
+    /**
+     * Slot of the event, adding it as the next slot if it is new.
+     *
+     * @param eventId non-negative event ID, see UidGenerator.parseEventId
+     */
+    public int slotOf(long eventId) {
+        if (eventId < 0) {
+            throw new IllegalArgumentException("eventId must not be negative: " + eventId);
+        }
+        int mask = keys.length - 1;
+        int index = spread(eventId) & mask;
+        while (keys[index] != FREE) {
+            if (keys[index] == eventId) {
+                return slots[index];
+            }
+            index = (index + 1) & mask;
+        }
+        if (size == eventIds.length) {
+            eventIds = Arrays.copyOf(eventIds, size * 2);
+        }
+        keys[index] = eventId;
+        slots[index] = size;
+        eventIds[size] = eventId;
+        // Keep the load factor at or below one half
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return size - 1;
+    }
+
+    /**
+     * @return Slot of the event, or -1 if it has not been seen
+     */
+    public int find(long eventId) {
+        int mask = keys.length - 1;
+        int index = spread(eventId) & mask;
+        while (keys[index] != FREE) {
+            if (keys[index] == eventId) {
+                return slots[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return Event ID held in slot, which must be below size()
+     */
+    public long eventId(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("slot " + slot + " out of " + size);
+        }
+        return eventIds[slot];
+    }
+
+    /**
+     * @return Number of distinct events, which is also the next slot
+     */
+    public int size() {
+        return size;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldSlots = slots;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int index = spread(oldKeys[i]) & mask;
+                while (keys[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                slots[index] = oldSlots[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, FREE);
+        slots = new int[capacity];
+    }
+
+    // Murmur3 64-bit finalizer folded to an int; sequential event IDs would otherwise cluster
+    private static int spread(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
@@ -0,0 +1,236 @@
+package sportbet.uid;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of market and selection UIDs.
+ * 
+ * Live feeds resend the same (event_id, market_type_id, specifier) tuple
+ * every time the odds move. On a hit the cache returns the same market UID
+ * instance, and the same selection UID instance per selection type, instead
+ * of building new strings. The cache is split into independently locked
+ * segments so parallel converters do not contend on a single lock.
+ */
+public class UidCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private static final int SEGMENTS = 16;
+
+    private final int maxEntries;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UidCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public UidCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        int perSegment = Math.max(1, (maxEntries + SEGMENTS - 1) / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    /**
+     * Returns the cached UIDs for the tuple, creating them on a miss.
+     * 
+     * @param eventId event ID, not null
+     * @param marketTypeId market type ID, not null
+     * @param specifier specifier value, or null for markets without one
+     * @return entry holding the market UID and its selection UIDs
+     */
+    public Entry get(String eventId, String marketTypeId, String specifier) {
+        return get(new Key(eventId, marketTypeId, specifier));
+    }
+
+    /**
+     * Returns the cached UIDs for a tuple with a numeric event ID, creating them on a miss.
+     * The key holds the event ID as a long, so it is hashed and compared without a string.
+     * 
+     * @param eventId non-negative event ID, see UidGenerator.parseEventId
+     * @param marketTypeId market type ID, not null
+     * @param specifier specifier value, or null for markets without one
+     * @return entry holding the market UID and its selection UIDs
+     */
+    public Entry get(long eventId, String marketTypeId, String specifier) {
+        if (eventId < 0) {
+            throw new IllegalArgumentException("eventId must not be negative: " + eventId);
+        }
+        return get(new Key(eventId, marketTypeId, specifier));
+    }
+
+    private Entry get(Key key) {
+        Segment segment = segments[(key.hash ^ (key.hash >>> 16)) & (SEGMENTS - 1)];
+
+        synchronized (segment) {
+            Entry entry = segment.get(key);
+            if (entry != null) {
+                hits.increment();
+                return entry;
+            }
+            misses.increment();
+            entry = new Entry(buildMarketUid(key));
+            segment.put(key, entry);
+            return entry;
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "UidCache{size=" + size() + "/" + maxEntries + ", hits=" + getHits() + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions() + "}";
+    }
+
+    private static String buildMarketUid(Key key) {
+        if (key.eventId == null) {
+            return UidGenerator.generateMarketUid(key.numericEventId, key.marketTypeId, key.specifier);
+        }
+        Map<String, String> specifiers = key.specifier == null ? Map.of() : Map.of("specifier", key.specifier);
+        return UidGenerator.generateMarketUid(
+                new UidGenerator.MarketUidParams(key.eventId, key.marketTypeId, specifiers));
+    }
+
+    /**
+     * Cached market UID plus the selection UIDs derived from it.
+     */
+    public static final class Entry {
+        private final String marketUid;
+        // Pairs of (selection type ID, selection UID); replaced on write, never mutated
+        private volatile String[] selectionUids = new String[0];
+
+        Entry(String marketUid) {
+            this.marketUid = marketUid;
+        }
+
+        public String getMarketUid() {
+            return marketUid;
+        }
+
+        /**
+         * Returns the selection UID {market_uid}_{selection_type_id}, shared across calls.
+         */
+        public String selectionUid(String selectionTypeId) {
+            String[] pairs = selectionUids;
+            for (int i = 0; i < pairs.length; i += 2) {
+                // Type ID strings are normally the shared per-type instances
+                if (pairs[i] == selectionTypeId || pairs[i].equals(selectionTypeId)) {
+                    return pairs[i + 1];
+                }
+            }
+            return addSelectionUid(selectionTypeId);
+        }
+
+        private synchronized String addSelectionUid(String selectionTypeId) {
+            String[] pairs = selectionUids;
+            for (int i = 0; i < pairs.length; i += 2) {
+                if (pairs[i].equals(selectionTypeId)) return pairs[i + 1];
+            }
+            String uid = marketUid + "_" + selectionTypeId;
+            String[] grown = new String[pairs.length + 2];
+            System.arraycopy(pairs, 0, grown, 0, pairs.length);
+            grown[pairs.length] = selectionTypeId;
+            grown[pairs.length + 1] = uid;
+            selectionUids = grown;
+            return uid;
+        }
+    }
+
+    // Tuple key; numeric event IDs are kept as a long with a null eventId string
+    private static final class Key {
+        private final String eventId;
+        private final long numericEventId;
+        private final String marketTypeId;
+        private final String specifier;
+        private final int hash;
+
+        Key(String eventId, String marketTypeId, String specifier) {
+            this(Objects.requireNonNull(eventId, "eventId cannot be null"), -1, eventId.hashCode(),
+                    marketTypeId, specifier);
+        }
+
+        Key(long numericEventId, String marketTypeId, String specifier) {
+            this(null, numericEventId, Long.hashCode(numericEventId), marketTypeId, specifier);
+        }
+
+        private Key(String eventId, long numericEventId, int eventHash, String marketTypeId, String specifier) {
+            this.eventId = eventId;
+            this.numericEventId = numericEventId;
+            this.marketTypeId = Objects.requireNonNull(marketTypeId, "marketTypeId cannot be null");
+            this.specifier = specifier;
+            this.hash = 31 * (31 * eventHash + marketTypeId.hashCode()) + Objects.hashCode(specifier);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return hash == other.hash
+                    && numericEventId == other.numericEventId
+                    && Objects.equals(eventId, other.eventId)
+                    && marketTypeId.equals(other.marketTypeId)
+                    && Objects.equals(specifier, other.specifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Access-ordered map that drops its least recently used entry when full
+    private final class Segment extends LinkedHashMap<Key, Entry> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -6,6 +6,15 @@ import java.util.Objects;
 // Generates unique identifiers for markets and selections
 public class UidGenerator {
     
+    // parseEventId result for event IDs that are not canonical non-negative numbers
+    public static final long NON_NUMERIC_EVENT_ID = -1;
+    
+    // Longest event ID that always fits a long without overflow checks
+    private static final int MAX_EVENT_ID_DIGITS = 18;
+    
+    // Per-thread buffer for numeric market UIDs, grown for long specifiers
+    private static final ThreadLocal<char[]> UID_BUFFER = ThreadLocal.withInitial(() -> new char[48]);
+    
     // Parameters for market UID generation
     public static class MarketUidParams {
         private final String eventId;
@@ -69,6 +78,81 @@ public class UidGenerator {
         return uid.toString();
     }
     
+    // Same UID as generateMarketUid for the decimal form of eventId, written digit by digit into a
+    // reused buffer; specifier may be null
+    public static String generateMarketUid(long eventId, String marketTypeId, String specifier) {
+        if (eventId < 0) {
+            throw new IllegalArgumentException("eventId must not be negative: " + eventId);
+        }
+        int digits = digitCount(eventId);
+        boolean withSpecifier = specifier != null && !isBlank(specifier);
+        int length = digits + 1 + marketTypeId.length() + (withSpecifier ? 1 + specifier.length() : 0);
+        char[] buffer = UID_BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+            UID_BUFFER.set(buffer);
+        }
+        
+        long remaining = eventId;
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer[i] = (char) ('0' + (int) (remaining % 10));
+            remaining /= 10;
+        }
+        int pos = digits;
+        buffer[pos++] = '_';
+        marketTypeId.getChars(0, marketTypeId.length(), buffer, pos);
+        pos += marketTypeId.length();
+        if (withSpecifier) {
+            buffer[pos++] = '_';
+            specifier.getChars(0, specifier.length(), buffer, pos);
+        }
+        return new String(buffer, 0, length);
+    }
+    
+    // Event ID as a long if it is a canonical non-negative number (ASCII digits, no sign, no leading
+    // zeros, at most 18 digits), else NON_NUMERIC_EVENT_ID. Its decimal form is always the input again,
+    // so numeric and string UIDs of the same event are equal
+    public static long parseEventId(CharSequence eventId) {
+        if (eventId == null) {
+            return NON_NUMERIC_EVENT_ID;
+        }
+        return parseDigits(eventId, eventId.length());
+    }
+    
+    private static long parseDigits(CharSequence s, int end) {
+        if (end == 0 || end > MAX_EVENT_ID_DIGITS || (end > 1 && s.charAt(0) == '0')) {
+            return NON_NUMERIC_EVENT_ID;
+        }
+        long value = 0;
+        for (int i = 0; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return NON_NUMERIC_EVENT_ID;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+    
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+    
+    // Same as s.trim().isEmpty(), without the trimmed copy
+    private static boolean isBlank(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     // Creates selection UID: {market_uid}_{selection_type_id}
     public static String generateSelectionUid(SelectionUidParams params) {
         return params.getMarketUid() + "_" + params.getSelectionTypeId();
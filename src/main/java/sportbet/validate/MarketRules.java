@@ -0,0 +1,149 @@
+package sportbet.validate;
+
+import java.util.List;
+
+import sportbet.model.RawSelection;
+
+/**
+ * Validation rules for raw markets, shared by RawMarketValidator and the
+ * fused validate-and-convert pass in MarketConverter. Each check returns
+ * the error message, or null when the value is valid. Valid values are
+ * checked without allocating, so the checks can run inside conversion loops.
+ */
+public final class MarketRules {
+
+    public static final int MAX_MARKET_NAME_LENGTH = 100;
+    public static final int MAX_SELECTIONS = 50;
+    public static final double MIN_ODDS_EXCLUSIVE = 1.0;
+    public static final double MAX_ODDS = 1000.0;
+
+    private static final int NOT_A_NUMBER = Integer.MIN_VALUE;
+
+    private MarketRules() {}
+
+    /**
+     * Checks a market name: not blank, and not too long in strict mode.
+     */
+    public static String marketNameError(String name, boolean strictMode) {
+        if (isBlank(name)) {
+            return "Market name cannot be null or empty";
+        }
+        if (strictMode && name.length() > MAX_MARKET_NAME_LENGTH) {
+            return "Market name too long (max " + MAX_MARKET_NAME_LENGTH + " characters)";
+        }
+        return null;
+    }
+
+    /**
+     * Checks an event ID: not blank, and a positive number in strict mode.
+     */
+    public static String eventIdError(String eventId, boolean strictMode) {
+        if (isBlank(eventId)) {
+            return "Event ID cannot be null or empty";
+        }
+        if (strictMode) {
+            int sign = signOfLong(eventId);
+            if (sign == NOT_A_NUMBER) {
+                return "Event ID must be a valid number";
+            }
+            if (sign <= 0) {
+                return "Event ID must be positive";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks the selection list as a whole: present, not empty, not too many in strict mode.
+     */
+    public static String selectionsError(List<RawSelection> selections, boolean strictMode) {
+        if (selections == null || selections.isEmpty()) {
+            return "Market must have at least one selection";
+        }
+        if (strictMode && selections.size() > MAX_SELECTIONS) {
+            return "Too many selections (max " + MAX_SELECTIONS + ")";
+        }
+        return null;
+    }
+
+    /**
+     * Checks one selection: present, named, with odds above 1.0, and not above the limit in strict mode.
+     */
+    public static String selectionError(RawSelection selection, int index, boolean strictMode) {
+        if (selection == null) {
+            return "Selection at index " + index + " cannot be null";
+        }
+        return selectionError(selection.getName(), selection.hasOdds(),
+                selection.hasOdds() ? selection.getOddsValue() : 0, index, strictMode);
+    }
+
+    /**
+     * Same checks for a present selection given by its values, for callers that build the
+     * message later and must not keep a reusable RawSelection holder until then.
+     */
+    public static String selectionError(String name, boolean hasOdds, double odds, int index, boolean strictMode) {
+        if (isBlank(name)) {
+            return "Selection name at index " + index + " cannot be null or empty";
+        }
+        if (!hasOdds) {
+            return "Selection odds at index " + index + " cannot be null";
+        }
+        if (odds <= MIN_ODDS_EXCLUSIVE) {
+            return "Selection odds at index " + index + " must be greater than 1.0";
+        }
+        if (strictMode && odds > MAX_ODDS) {
+            return "Selection odds at index " + index + " too high (max 1000.0)";
+        }
+        return null;
+    }
+
+    // Same as s == null || s.trim().isEmpty(), without the trimmed copy
+    private static boolean isBlank(String s) {
+        if (s == null) {
+            return true;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Signum of s parsed as Long.parseLong would, or NOT_A_NUMBER; only very long or
+    // non-ASCII inputs take the exception path
+    private static int signOfLong(String s) {
+        int length = s.length();
+        int start = s.charAt(0) == '-' || s.charAt(0) == '+' ? 1 : 0;
+        if (start == length) {
+            return NOT_A_NUMBER;
+        }
+        if (length - start > 18) {
+            return signOfLongSlow(s);
+        }
+        boolean zero = true;
+        for (int i = start; i < length; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                // Long.parseLong accepts any Unicode digit
+                return signOfLongSlow(s);
+            }
+            if (c < '0' || c > '9') {
+                return NOT_A_NUMBER;
+            }
+            zero &= c == '0';
+        }
+        if (zero) {
+            return 0;
+        }
+        return s.charAt(0) == '-' ? -1 : 1;
+    }
+
+    private static int signOfLongSlow(String s) {
+        try {
+            return Long.signum(Long.parseLong(s));
+        } catch (NumberFormatException e) {
+            return NOT_A_NUMBER;
+        }
+    }
+}
@@ -9,7 +9,9 @@ import sportbet.model.RawMarket;
 import sportbet.model.RawSelection;
 
 /**
- * Class for validation of Raw Market data
+ * Class for validation of Raw Market data.
+ * The rules live in MarketRules; MarketConverter applies the same rules during
+ * conversion when its ValidationMode is not OFF, which avoids a second pass.
  */
 public class RawMarketValidator {
 
@@ -53,83 +55,33 @@ public class RawMarketValidator {
      * Validates market name
      */
     private void validateMarketName(String name, boolean strictMode) {
-        if (name == null || name.trim().isEmpty()) {
-            throw new DomainException(ErrorCode.VALIDATION_ERROR, "Market name cannot be null or empty");
-        }
-
-        if (strictMode && name.length() > 100) {
-            throw new DomainException(ErrorCode.VALIDATION_ERROR, "Market name too long (max 100 characters)");
-        }
+        fail(MarketRules.marketNameError(name, strictMode));
     }
 
     /**
      * Validates event ID
      */
     private void validateEventId(String eventId, boolean strictMode) {
-        if (eventId == null || eventId.trim().isEmpty()) {
-            throw new DomainException(ErrorCode.VALIDATION_ERROR, "Event ID cannot be null or empty");
-        }
-
-        if (strictMode) {
-            try {
-                long id = Long.parseLong(eventId);
-                if (id <= 0) {
-                    throw new DomainException(ErrorCode.VALIDATION_ERROR, "Event ID must be positive");
-                }
-            } catch (NumberFormatException e) {
-                throw new DomainException(ErrorCode.VALIDATION_ERROR, "Event ID must be a valid number");
-            }
-        }
+        fail(MarketRules.eventIdError(eventId, strictMode));
     }
 
     /**
      * Validates selections
      */
     private void validateSelections(List<RawSelection> selections, boolean strictMode) {
-        if (selections == null || selections.isEmpty()) {
-            throw new DomainException(ErrorCode.VALIDATION_ERROR, "Market must have at least one selection");
-        }
-
-        if (strictMode && selections.size() > 50) {
-            throw new DomainException(ErrorCode.VALIDATION_ERROR, "Too many selections (max 50)");
-        }
+        fail(MarketRules.selectionsError(selections, strictMode));
 
         for (int i = 0; i < selections.size(); i++) {
-            RawSelection selection = selections.get(i);
-            validateSelection(selection, i, strictMode);
+            fail(MarketRules.selectionError(selections.get(i), i, strictMode));
         }
     }
 
     /**
-     * Validates individual selection
+     * Throws a VALIDATION_ERROR for a rule message; does nothing for null
      */
-    private void validateSelection(RawSelection selection, int index, boolean strictMode) {
-        if (selection == null) {
-            throw new DomainException(ErrorCode.VALIDATION_ERROR, 
-                "Selection at index " + index + " cannot be null");
-        }
-
-        // Name validation
-        if (selection.getName() == null || selection.getName().trim().isEmpty()) {
-            throw new DomainException(ErrorCode.VALIDATION_ERROR, 
-                "Selection name at index " + index + " cannot be null or empty");
-        }
-
-        // Odds validation
-        if (selection.getOdds() == null) {
-            throw new DomainException(ErrorCode.VALIDATION_ERROR, 
-                "Selection odds at index " + index + " cannot be null");
-        }
-
-        double odds = selection.getOdds();
-        if (odds <= 1.0) {
-            throw new DomainException(ErrorCode.VALIDATION_ERROR, 
-                "Selection odds at index " + index + " must be greater than 1.0");
-        }
-
-        if (strictMode && odds > 1000.0) {
-            throw new DomainException(ErrorCode.VALIDATION_ERROR, 
-                "Selection odds at index " + index + " too high (max 1000.0)");
+    private static void fail(String message) {
+        if (message != null) {
+            throw new DomainException(ErrorCode.VALIDATION_ERROR, message);
         }
     }
 }
@@ -0,0 +1,34 @@
+package sportbet.validate;
+
+import java.util.Locale;
+
+/**
+ * How strictly raw markets are validated while they are converted
+ */
+public enum ValidationMode {
+    OFF,      // no validation, only what conversion itself needs
+    LENIENT,  // names, event ID, selections and odds > 1.0 must be present and sane
+    STRICT;   // lenient plus length, count and odds limits and a positive numeric event ID
+
+    public boolean isEnabled() {
+        return this != OFF;
+    }
+
+    public boolean isStrict() {
+        return this == STRICT;
+    }
+
+    /**
+     * Mode for a command line value: off, lenient or strict.
+     *
+     * @throws IllegalArgumentException for any other value
+     */
+    public static ValidationMode fromCliName(String name) {
+        for (ValidationMode mode : values()) {
+            if (mode.name().toLowerCase(Locale.ROOT).equals(name)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown validation mode: " + name + " (expected one of off, lenient, strict)");
+    }
+}
@@ -0,0 +1,77 @@
+package sportbet.app;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.core.MarketConverter;
+import sportbet.core.ParallelMarketConverter;
+import sportbet.io.FilePathResolver;
+import sportbet.io.OutputFormat;
+
+/**
+ * JUnit tests for BatchConverter
+ */
+class BatchConverterTest {
+
+    private static final String FEED = "[{\"name\":\"1x2\",\"event_id\":\"100000\","
+            + "\"selections\":[{\"name\":\"1\",\"odds\":1.85},{\"name\":\"2\",\"odds\":1.95}]}]";
+
+    private final ObjectMapper mapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @TempDir
+    Path tempDir;
+
+    private BatchConverter batch(ParallelMarketConverter parallel) {
+        return new BatchConverter(new MarketFileConverter(mapper, parallel), 2);
+    }
+
+    private Path writeFeed(String directory) throws IOException {
+        Path dir = Files.createDirectories(tempDir.resolve(directory));
+        return Files.writeString(dir.resolve("batch-collision-feed.json"), FEED);
+    }
+
+    @Test
+    @DisplayName("Should reject two same-named inputs from different directories before converting")
+    void convertAll_sameNameInDifferentDirectories_throwsException() throws IOException {
+        // Arrange
+        Path first = writeFeed("a");
+        Path second = writeFeed("b");
+        Path output = FilePathResolver.resolveOutputPath(first.toString(), OutputFormat.JSON);
+
+        // Act & Assert
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 1)) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> batch(parallel).convertAll(List.of(first, second)));
+            assertTrue(e.getMessage().contains(first.toString()));
+            assertTrue(e.getMessage().contains(second.toString()));
+            assertTrue(e.getMessage().contains(output.toString()));
+        }
+        assertFalse(Files.exists(output));
+    }
+
+    @Test
+    @DisplayName("Should reject the same input listed twice")
+    void convertAll_sameFileTwice_throwsException() throws IOException {
+        // Arrange
+        Path input = writeFeed("a");
+
+        // Act & Assert
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 1)) {
+            assertThrows(IllegalArgumentException.class, () -> batch(parallel).convertAll(List.of(input, input)));
+        }
+        assertFalse(Files.exists(FilePathResolver.resolveOutputPath(input.toString(), OutputFormat.JSON)));
+    }
+}
@@ -0,0 +1,294 @@
+package sportbet.app;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.core.MarketConverter;
+import sportbet.core.ParallelMarketConverter;
+import sportbet.errors.ErrorCode;
+import sportbet.errors.JsonReadException;
+import sportbet.io.JacksonStreamingMarketReader;
+import sportbet.io.OutputFormat;
+import sportbet.metrics.ConversionMetrics;
+
+/**
+ * JUnit tests for MarketFileConverter
+ */
+class MarketFileConverterTest {
+
+    private final ObjectMapper mapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @TempDir
+    Path tempDir;
+
+    // count markets; every 7th has an unknown type and odd ones have selections 1x2 does not know
+    private Path writeFeed(int count, boolean truncated) throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) json.append(',');
+            String name = i % 7 == 0 ? "corners total" : (i % 2 == 0 ? "Total" : "1x2");
+            json.append("{\"name\":\"").append(name).append("\",\"event_id\":\"").append(100000 + i)
+                .append("\",\"selections\":[{\"name\":\"over 2.5\",\"odds\":1.85},{\"name\":\"under 2.5\",\"odds\":1.95}]}");
+        }
+        json.append(truncated ? ",{\"name\":" : "]");
+        Path file = tempDir.resolve(truncated ? "truncated.json" : "feed.json");
+        Files.writeString(file, json);
+        return file;
+    }
+
+    // Ten 1x2 markets with JSON nulls in place of the 1st and 5th, so with windows of four
+    // a null starts the first and the second window
+    private Path writeFeedWithNulls() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 10; i++) {
+            if (i > 0) json.append(',');
+            if (i == 0 || i == 4) {
+                json.append("null");
+                continue;
+            }
+            json.append("{\"name\":\"1x2\",\"event_id\":\"").append(100000 + i)
+                .append("\",\"selections\":[{\"name\":\"draw\",\"odds\":3.2}]}");
+        }
+        Path file = tempDir.resolve("nulls.json");
+        Files.writeString(file, json.append(']'));
+        return file;
+    }
+
+    // 40 1x2 markets for events 100000 to 100039 with a JSON null at nullIndex
+    private Path writeFeedWithNullAt(int nullIndex) throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 40; i++) {
+            if (i > 0) json.append(',');
+            if (i == nullIndex) {
+                json.append("null");
+                continue;
+            }
+            json.append("{\"name\":\"1x2\",\"event_id\":\"").append(100000 + i)
+                .append("\",\"selections\":[{\"name\":\"draw\",\"odds\":3.2}]}");
+        }
+        Path file = tempDir.resolve("null-at-" + nullIndex + ".json");
+        Files.writeString(file, json.append(']'));
+        return file;
+    }
+
+    // Market UIDs of a converted file, in output order
+    private List<String> writtenUids(Path output) throws IOException {
+        List<String> uids = new ArrayList<>();
+        mapper.readTree(output.toFile()).forEach(market -> uids.add(market.get("market_uid").asText()));
+        return uids;
+    }
+
+    private static List<String> uidsWithoutNull(int nullIndex) {
+        List<String> uids = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            if (i != nullIndex) uids.add((100000 + i) + "_1");
+        }
+        return uids;
+    }
+
+    private MarketFileConverter fileConverter(ParallelMarketConverter parallel, ConversionMetrics metrics) {
+        return new MarketFileConverter(OutputFormat.JSON.writerFactory(),
+                new JacksonStreamingMarketReader(mapper), parallel, metrics);
+    }
+
+    @Test
+    @DisplayName("Pipelined conversion writes the same file and reports markets in the same order")
+    void convert_pipelined_matchesWindowed() throws IOException {
+        // Arrange
+        Path input = writeFeed(1000, false);
+        Path windowedOutput = tempDir.resolve("windowed.json");
+        Path pipelinedOutput = tempDir.resolve("pipelined.json");
+        List<String> windowedEvents = new ArrayList<>();
+        List<String> pipelinedEvents = new ArrayList<>();
+        ConversionMetrics metrics = new ConversionMetrics();
+
+        // Act
+        MarketFileConverter.Summary windowed;
+        MarketFileConverter.Summary pipelined;
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 3, 16, metrics)) {
+            windowed = fileConverter(parallel, null).convert(input, windowedOutput, null,
+                    (number, raw, result) -> windowedEvents.add(number + ":" + raw.getEvent_id() + ":" + result.isSuccess()));
+            pipelined = fileConverter(parallel, metrics).withPipeline(2).convert(input, pipelinedOutput, null,
+                    (number, raw, result) -> pipelinedEvents.add(number + ":" + raw.getEvent_id() + ":" + result.isSuccess()));
+        }
+
+        // Assert
+        assertEquals(1000, pipelined.getTotal());
+        assertEquals(windowed.getConverted(), pipelined.getConverted());
+        assertEquals(143, windowed.getRejected(ErrorCode.UNKNOWN_MARKET_TYPE));
+        assertEquals(143, pipelined.getRejected(ErrorCode.UNKNOWN_MARKET_TYPE));
+        assertEquals(429, pipelined.getRejected(ErrorCode.UNKNOWN_SELECTION_TYPE));
+        assertEquals(1000 - 143 - 429, pipelined.getConverted());
+        assertEquals(windowedEvents, pipelinedEvents);
+        assertEquals(Files.readString(windowedOutput), Files.readString(pipelinedOutput));
+        assertEquals(1000, metrics.pipeline().getMarkets(ConversionMetrics.Stage.WRITE));
+        assertTrue(metrics.pipeline().getMaxDepth(ConversionMetrics.Stage.CONVERT) <= 2);
+        assertTrue(metrics.report().contains("Queue convert"));
+    }
+
+    @Test
+    @DisplayName("A parse error stops the pipeline after the markets before it and leaves no output")
+    void convert_pipelinedBrokenInput_throwsException() throws IOException {
+        // Arrange
+        Path input = writeFeed(100, true);
+        Path output = tempDir.resolve("broken.json");
+        List<Integer> reported = new ArrayList<>();
+
+        // Act & Assert
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 2, 8)) {
+            MarketFileConverter converter = fileConverter(parallel, null).withPipeline();
+            assertThrows(JsonReadException.class,
+                    () -> converter.convert(input, output, null, (number, raw, result) -> reported.add(number)));
+        }
+        assertEquals(100, reported.size());
+        assertFalse(Files.exists(output));
+    }
+
+    @Test
+    @DisplayName("Error when the pipeline has no chunks")
+    void withPipeline_zeroChunks_throwsException() {
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 1)) {
+            assertThrows(IllegalArgumentException.class, () -> fileConverter(parallel, null).withPipeline(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Event counts cover converted markets only and are absent unless requested")
+    void convert_withEventCounts_countsConvertedEvents() throws IOException {
+        // Arrange - every market has its own event ID
+        Path input = writeFeed(1000, false);
+
+        // Act
+        MarketFileConverter.Summary plain;
+        MarketFileConverter.Summary counted;
+        MarketFileConverter.Summary pipelined;
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 2, 8)) {
+            plain = fileConverter(parallel, null).convert(input, tempDir.resolve("plain.json"));
+            counted = fileConverter(parallel, null).withEventCounts().convert(input, tempDir.resolve("counted.json"));
+            pipelined = fileConverter(parallel, null).withEventCounts().withPipeline(2)
+                    .convert(input, tempDir.resolve("pipelined.json"));
+        }
+
+        // Assert
+        assertEquals(-1, plain.getEvents());
+        assertEquals(counted.getConverted(), counted.getEvents());
+        assertEquals(1, counted.getMaxEventMarkets());
+        assertEquals(counted.getEvents(), pipelined.getEvents());
+    }
+
+    @Test
+    @DisplayName("Event counts use the raw event ID, so an ID with '_' is not counted under its UID prefix")
+    void convert_withEventCounts_underscoreEventIdNotCountedAsPrefix() throws IOException {
+        // Arrange - "12_3" is non-numeric and has the market UID 12_3_1, which starts like event 12
+        Path input = tempDir.resolve("underscore.json");
+        Files.writeString(input, "[{\"name\":\"1x2\",\"event_id\":\"12\",\"selections\":[{\"name\":\"draw\",\"odds\":3.2}]},"
+                + "{\"name\":\"1x2\",\"event_id\":\"12_3\",\"selections\":[{\"name\":\"draw\",\"odds\":3.2}]},"
+                + "{\"name\":\"1x2\",\"event_id\":\"12_3\",\"selections\":[{\"name\":\"draw\",\"odds\":3.1}]}]");
+
+        // Act
+        MarketFileConverter.Summary summary;
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 1, 8)) {
+            summary = fileConverter(parallel, null).withEventCounts().convert(input, tempDir.resolve("underscore_output.json"));
+        }
+
+        // Assert
+        assertEquals(3, summary.getConverted());
+        assertEquals(1, summary.getEvents());
+        assertEquals(1, summary.getMaxEventMarkets());
+    }
+
+    @Test
+    @DisplayName("A null element at the start of a window is a rejected market, not the end of the input")
+    void convert_nullElements_rejectedAndReadOn() throws IOException {
+        // Arrange
+        Path input = writeFeedWithNulls();
+        List<String> reported = new ArrayList<>();
+
+        // Act
+        MarketFileConverter.Summary summary;
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 1, 4)) {
+            summary = fileConverter(parallel, null).convert(input, tempDir.resolve("nulls_output.json"), null,
+                    (number, raw, result) -> reported.add(number + ":" + (raw == null) + ":" + result.getErrorMessage()));
+        }
+
+        // Assert
+        assertEquals(10, summary.getTotal());
+        assertEquals(8, summary.getConverted());
+        assertEquals(2, summary.getRejected(ErrorCode.CONVERSION_ERROR));
+        assertEquals("1:true:Market cannot be null", reported.get(0));
+        assertEquals("5:true:Market cannot be null", reported.get(4));
+        assertEquals("10:false:null", reported.get(9));
+    }
+
+    @Test
+    @DisplayName("Pipelined conversion also reads on past null elements")
+    void convert_pipelinedNullElements_rejectedAndReadOn() throws IOException {
+        // Arrange
+        Path input = writeFeedWithNulls();
+
+        // Act
+        MarketFileConverter.Summary summary;
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 1, 4)) {
+            summary = fileConverter(parallel, null).withPipeline(2)
+                    .convert(input, tempDir.resolve("nulls_pipelined.json"));
+        }
+
+        // Assert
+        assertEquals(10, summary.getTotal());
+        assertEquals(8, summary.getConverted());
+        assertEquals(2, summary.getRejected(ErrorCode.CONVERSION_ERROR));
+    }
+
+    @Test
+    @DisplayName("A null element does not make two window slots share one reused market")
+    void convert_lateNullElement_writesEveryMarketOnce() throws IOException {
+        // Arrange
+        // with windows of eight the null is in the middle of the second window, whose holders are reused
+        Path input = writeFeedWithNullAt(9);
+        Path output = tempDir.resolve("late-null_output.json");
+
+        // Act
+        MarketFileConverter.Summary summary;
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 1, 8)) {
+            summary = fileConverter(parallel, null).convert(input, output);
+        }
+
+        // Assert
+        assertEquals(39, summary.getConverted());
+        assertEquals(uidsWithoutNull(9), writtenUids(output));
+    }
+
+    @Test
+    @DisplayName("Pipelined conversion does not make two chunk slots share one reused market after a null")
+    void convert_pipelinedLateNullElement_writesEveryMarketOnce() throws IOException {
+        // Arrange
+        // two chunks of eight circulate, so the third chunk, which holds the null, reuses the first one's markets
+        Path input = writeFeedWithNullAt(17);
+        Path output = tempDir.resolve("late-null_pipelined.json");
+
+        // Act
+        MarketFileConverter.Summary summary;
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(new MarketConverter(), 1, 8)) {
+            summary = fileConverter(parallel, null).withPipeline(2).convert(input, output);
+        }
+
+        // Assert
+        assertEquals(39, summary.getConverted());
+        assertEquals(uidsWithoutNull(17), writtenUids(output));
+    }
+}
@@ -0,0 +1,240 @@
+package sportbet.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import sportbet.domain.UnmappedMarketNames;
+import sportbet.errors.DomainException;
+import sportbet.errors.ErrorCode;
+import sportbet.model.ParsedMarket;
+import sportbet.model.RawMarket;
+import sportbet.model.RawSelection;
+import sportbet.uid.UidCache;
+import sportbet.validate.RawMarketValidator;
+import sportbet.validate.ValidationMode;
+
+/**
+ * JUnit tests for MarketConverter.tryConvert and its fused validation
+ */
+class MarketConverterTest {
+
+    private final MarketConverter converter = new MarketConverter();
+
+    @Test
+    @DisplayName("Unknown market type is a result with its code, not an exception")
+    void tryConvert_unknownMarketType_returnsFailure() {
+        // Arrange
+        RawMarket raw = new RawMarket("corners total", "123", List.of(new RawSelection("over 9.5", 1.9)));
+
+        // Act
+        ConversionResult result = converter.tryConvert(raw);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertNull(result.getMarket());
+        assertEquals(ErrorCode.UNKNOWN_MARKET_TYPE, result.getErrorCode());
+        assertEquals("Unknown market type: corners total", result.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("Unknown selection reports the raw and cleaned name of the first unknown one")
+    void tryConvert_unknownSelection_returnsFailure() {
+        // Arrange
+        RawMarket raw = new RawMarket("1x2", "123", List.of(
+            new RawSelection("Team A", 1.65),
+            new RawSelection("  Nobody  +1 ", 3.2),
+            new RawSelection("Someone", 2.6)
+        ));
+
+        // Act
+        ConversionResult result = converter.tryConvert(raw);
+
+        // Assert
+        assertEquals(ErrorCode.UNKNOWN_SELECTION_TYPE, result.getErrorCode());
+        assertEquals("Unknown selection name: '  Nobody  +1 ' (cleaned: 'nobody') for market type: ONE_X_TWO",
+                result.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("Missing odds fail after selection names are checked")
+    void tryConvert_missingOdds_returnsFailure() {
+        // Arrange
+        RawMarket raw = new RawMarket("1x2", "123", List.of(
+            new RawSelection("Team A", 1.65),
+            new RawSelection("draw", null),
+            new RawSelection("Team B", 2.6)
+        ));
+
+        // Act
+        ConversionResult result = converter.tryConvert(raw);
+
+        // Assert
+        assertEquals(ErrorCode.CONVERSION_ERROR, result.getErrorCode());
+        assertEquals("Missing odds for selection: 'draw'", result.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("convert throws the same code and message as a DomainException")
+    void convert_unknownMarketType_throwsDomainException() {
+        // Arrange
+        RawMarket raw = new RawMarket("corners total", "123", List.of());
+
+        // Act
+        DomainException e = assertThrows(DomainException.class, () -> converter.convert(raw));
+
+        // Assert
+        assertEquals(ErrorCode.UNKNOWN_MARKET_TYPE, e.getCode());
+        assertEquals("Unknown market type: corners total", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Known markets convert to a successful result")
+    void tryConvert_knownMarket_returnsMarket() {
+        // Arrange
+        RawMarket raw = new RawMarket("Total", "123", List.of(
+            new RawSelection("over 2.5", 1.85),
+            new RawSelection("under 2.5", 1.95)
+        ));
+
+        // Act
+        ConversionResult result = converter.tryConvert(raw);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertNull(result.getErrorCode());
+        assertEquals("123_18_2.5", result.getMarket().getMarket_uid());
+    }
+
+    @Test
+    @DisplayName("Unknown names answered by the negative cache give the same reject")
+    void tryConvert_cachedUnknownMarketType_returnsSameFailure() {
+        // Arrange
+        UnmappedMarketNames names = new UnmappedMarketNames();
+        MarketConverter cached = new MarketConverter(ConverterOptions.defaults().withUnmappedMarketNames(names));
+        RawMarket raw = new RawMarket("corners total", "123", List.of());
+
+        // Act
+        ConversionResult first = cached.tryConvert(raw);
+        ConversionResult second = cached.tryConvert(raw);
+
+        // Assert
+        assertEquals(ErrorCode.UNKNOWN_MARKET_TYPE, second.getErrorCode());
+        assertEquals(first.getErrorMessage(), second.getErrorMessage());
+        assertEquals(1, names.getHits());
+        assertEquals(2L, names.top(1).get(0).getValue());
+    }
+
+    @Test
+    @DisplayName("Fused validation rejects exactly what RawMarketValidator rejects, with the same message")
+    void tryConvert_validation_matchesValidator() {
+        // Arrange - 1x2 markets whose selections are all known, so only validation can fail
+        RawMarketValidator validator = new RawMarketValidator();
+        List<RawSelection> valid = List.of(
+            new RawSelection("Team A", 1.65), new RawSelection("draw", 3.2), new RawSelection("Team B", 2.6));
+        List<RawSelection> manySelections = new ArrayList<>();
+        for (int i = 0; i < 51; i++) {
+            manySelections.add(new RawSelection("draw", 3.2));
+        }
+        List<RawMarket> markets = new ArrayList<>();
+        for (String eventId : new String[] {"123", null, " ", "0", "-5", "+7", "abc", "-", "12a", "99999999999999999999",
+                                            "\u0663", "-0"}) {
+            markets.add(new RawMarket("1x2", eventId, valid));
+        }
+        markets.add(new RawMarket(" ", "1", valid));
+        markets.add(new RawMarket("1x2" + " ".repeat(100), "1", valid));
+        markets.add(new RawMarket("1x2", "1", List.of()));
+        markets.add(new RawMarket("1x2", "1", null));
+        markets.add(new RawMarket("1x2", "1", manySelections));
+        markets.add(new RawMarket("1x2", "1", Arrays.asList(valid.get(0), null, valid.get(2))));
+        markets.add(new RawMarket("1x2", "1", List.of(valid.get(0), new RawSelection(" ", 3.2))));
+        markets.add(new RawMarket("1x2", "1", List.of(valid.get(0), new RawSelection("draw", null))));
+        markets.add(new RawMarket("1x2", "1", List.of(valid.get(0), new RawSelection("draw", 1.0))));
+        markets.add(new RawMarket("1x2", "1", List.of(valid.get(0), new RawSelection("draw", 1000.5))));
+
+        // Act & Assert
+        for (ValidationMode mode : new ValidationMode[] {ValidationMode.LENIENT, ValidationMode.STRICT}) {
+            MarketConverter validating = new MarketConverter(ConverterOptions.defaults().withValidation(mode));
+            for (RawMarket market : markets) {
+                String expected = null;
+                try {
+                    validator.validate(new RawMarketValidator.ValidationParams(market, mode.isStrict()));
+                } catch (DomainException e) {
+                    expected = e.getMessage();
+                }
+                ConversionResult result = validating.tryConvert(market);
+                String label = mode + " " + market;
+                if (expected == null) {
+                    assertTrue(result.isSuccess(), label + ": " + result.getErrorMessage());
+                } else {
+                    assertEquals(ErrorCode.VALIDATION_ERROR, result.getErrorCode(), label);
+                    assertEquals(expected, result.getErrorMessage(), label);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Validation messages are built from the selection as converted, even if its holder is reused")
+    void tryConvert_reusedSelectionHolder_messageKeepsConvertedValues() {
+        // Arrange
+        MarketConverter validating = new MarketConverter(ConverterOptions.defaults().withValidation(ValidationMode.LENIENT));
+        RawSelection holder = new RawSelection("draw", 1.0);
+        RawMarket raw = new RawMarket("1x2", "1", List.of(new RawSelection("Team A", 1.65), holder));
+
+        // Act
+        ConversionResult result = validating.tryConvert(raw);
+        holder.setName(" ");
+        holder.setOddsValue(3.2);
+
+        // Assert
+        assertEquals(ErrorCode.VALIDATION_ERROR, result.getErrorCode());
+        assertEquals("Selection odds at index 1 must be greater than 1.0", result.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("Without validation, invalid odds still convert and missing odds stay a conversion error")
+    void tryConvert_validationOff_keepsConversionRules() {
+        // Arrange
+        RawMarket lowOdds = new RawMarket("1x2", "-5", List.of(new RawSelection("draw", 0.5)));
+        RawMarket noOdds = new RawMarket("1x2", "1", List.of(new RawSelection("draw", null)));
+
+        // Act & Assert
+        assertTrue(converter.tryConvert(lowOdds).isSuccess());
+        assertEquals(ErrorCode.CONVERSION_ERROR, converter.tryConvert(noOdds).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Numeric event IDs give the same UIDs as the string path, with and without the UID cache")
+    void tryConvert_numericEventIds_sameUids() {
+        // Arrange
+        ConverterOptions numeric = ConverterOptions.defaults().withNumericEventIds(true);
+        MarketConverter[] converters = {
+            new MarketConverter(numeric),
+            new MarketConverter(numeric.withUidCache(new UidCache(100)))
+        };
+        List<RawSelection> selections = List.of(new RawSelection("over 2.5", 1.85), new RawSelection("under 2.5", 1.95));
+
+        // Act & Assert
+        for (String eventId : new String[] {"123", "0", "007", "-5", "ev-1", "99999999999999999999"}) {
+            RawMarket raw = new RawMarket("Total", eventId, selections);
+            ParsedMarket expected = converter.convert(raw);
+            for (MarketConverter numericConverter : converters) {
+                for (int i = 0; i < 2; i++) {
+                    ParsedMarket actual = numericConverter.convert(raw);
+                    assertEquals(expected.getMarket_uid(), actual.getMarket_uid(), eventId);
+                    assertEquals(expected.getSelections().get(1).getSelection_uid(),
+                        actual.getSelections().get(1).getSelection_uid(), eventId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package sportbet.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import sportbet.model.RawMarket;
+import sportbet.model.RawSelection;
+
+/**
+ * JUnit tests for ParallelMarketConverter
+ */
+class ParallelMarketConverterTest {
+
+    private final MarketConverter converter = new MarketConverter();
+
+    @Test
+    @DisplayName("Results keep input order and per-market failures")
+    void convertAll_keepsOrderAndFailures() {
+        // Arrange - every 7th market has an unknown type
+        List<RawMarket> markets = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String name = (i % 7 == 0) ? "corners total" : "Total";
+            markets.add(new RawMarket(name, String.valueOf(100000 + i), List.of(
+                new RawSelection("over 2.5", 1.85),
+                new RawSelection("under 2.5", 1.95)
+            )));
+        }
+
+        // Act
+        List<ConversionResult> results;
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(converter, 4, 16)) {
+            results = parallel.convertAll(markets);
+        }
+
+        // Assert
+        assertEquals(markets.size(), results.size());
+        for (int i = 0; i < markets.size(); i++) {
+            ConversionResult result = results.get(i);
+            if (i % 7 == 0) {
+                assertFalse(result.isSuccess());
+                assertEquals("Unknown market type: corners total", result.getErrorMessage());
+            } else {
+                assertTrue(result.isSuccess());
+                assertEquals((100000 + i) + "_18_2.5", result.getMarket().getMarket_uid());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Single thread converts in the calling thread")
+    void convertAll_singleThread() {
+        // Arrange
+        List<RawMarket> markets = List.of(new RawMarket("1x2", "123456", List.of(
+            new RawSelection("Team A", 1.65),
+            new RawSelection("draw", 3.2),
+            new RawSelection("Team B", 2.6)
+        )));
+
+        // Act
+        List<ConversionResult> results;
+        try (ParallelMarketConverter parallel = new ParallelMarketConverter(converter, 1)) {
+            results = parallel.convertAll(markets);
+        }
+
+        // Assert
+        assertEquals("123456_1", results.get(0).getMarket().getMarket_uid());
+    }
+
+    @Test
+    @DisplayName("Error when thread count is not positive")
+    void constructor_zeroThreads_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMarketConverter(converter, 0));
+    }
+}
@@ -0,0 +1,138 @@
+package sportbet.delta;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import sportbet.model.ParsedMarket;
+import sportbet.model.ParsedSelection;
+
+/**
+ * JUnit tests for OddsDeltaTracker
+ */
+class OddsDeltaTrackerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static ParsedMarket total(String eventId, double over, double under) {
+        String uid = eventId + "_18_2.5";
+        return new ParsedMarket(uid, "18", Map.of("total", "2.5"), List.of(
+            new ParsedSelection(uid + "_12", 12, over),
+            new ParsedSelection(uid + "_13", 13, under)
+        ));
+    }
+
+    @Test
+    @DisplayName("Only new and changed markets are accepted in the next snapshot")
+    void accept_secondSnapshot_onlyChanges() {
+        // Arrange
+        OddsDeltaTracker tracker = new OddsDeltaTracker();
+        tracker.beginSnapshot();
+        assertTrue(tracker.accept(total("1", 1.85, 1.95)));
+        assertTrue(tracker.accept(total("2", 1.70, 2.10)));
+        assertTrue(tracker.endSnapshot().isEmpty());
+
+        // Act
+        tracker.beginSnapshot();
+        boolean unchanged = tracker.accept(total("1", 1.85, 1.95));
+        boolean changed = tracker.accept(total("2", 1.75, 2.10));
+        boolean added = tracker.accept(total("3", 1.90, 1.90));
+        List<ParsedMarket> removed = tracker.endSnapshot();
+
+        // Assert
+        assertFalse(unchanged);
+        assertTrue(changed);
+        assertTrue(added);
+        assertTrue(removed.isEmpty());
+        assertEquals(2, tracker.getChangedMarkets());
+        assertEquals(1, tracker.getUnchangedMarkets());
+    }
+
+    @Test
+    @DisplayName("Markets missing from a snapshot come back as tombstones")
+    void endSnapshot_missingMarket_returnsTombstone() {
+        // Arrange
+        OddsDeltaTracker tracker = new OddsDeltaTracker();
+        tracker.beginSnapshot();
+        tracker.accept(total("1", 1.85, 1.95));
+        tracker.accept(total("2", 1.70, 2.10));
+        tracker.endSnapshot();
+
+        // Act
+        tracker.beginSnapshot();
+        tracker.accept(total("1", 1.85, 1.95));
+        List<ParsedMarket> removed = tracker.endSnapshot();
+
+        // Assert
+        assertEquals(1, removed.size());
+        assertEquals("2_18_2.5", removed.get(0).getMarket_uid());
+        assertEquals("18", removed.get(0).getMarket_type_id());
+        assertTrue(removed.get(0).getSelections().isEmpty());
+        assertEquals(2, tracker.getTrackedSelections());
+    }
+
+    @Test
+    @DisplayName("A dropped selection marks the market as changed")
+    void accept_fewerSelections_isChanged() {
+        // Arrange
+        OddsDeltaTracker tracker = new OddsDeltaTracker();
+        tracker.beginSnapshot();
+        tracker.accept(total("1", 1.85, 1.95));
+        tracker.endSnapshot();
+
+        // Act
+        tracker.beginSnapshot();
+        ParsedMarket full = total("1", 1.85, 1.95);
+        ParsedMarket market = new ParsedMarket(full.getMarket_uid(), full.getMarket_type_id(),
+            full.getSpecifiers(), full.getSelections().subList(0, 1));
+
+        // Assert
+        assertTrue(tracker.accept(market));
+    }
+
+    @Test
+    @DisplayName("State survives save and load")
+    void saveAndLoad_roundTrip() {
+        // Arrange
+        Path state = tempDir.resolve("delta.bin");
+        OddsDeltaTracker tracker = OddsDeltaTracker.load(state);
+        tracker.beginSnapshot();
+        tracker.accept(total("1", 1.85, 1.95));
+        tracker.endSnapshot();
+        tracker.save(state);
+
+        // Act
+        OddsDeltaTracker reloaded = OddsDeltaTracker.load(state);
+        reloaded.beginSnapshot();
+
+        // Assert
+        assertFalse(reloaded.accept(total("1", 1.85, 1.95)));
+        assertTrue(reloaded.accept(total("1", 1.80, 1.95)));
+    }
+
+    @Test
+    @DisplayName("Map keeps entries across growth and sweeps stale stamps")
+    void stampedMap_growAndRetain() {
+        // Arrange
+        StampedStringLongMap map = new StampedStringLongMap();
+        for (int i = 0; i < 10_000; i++) {
+            map.put("uid_" + i, i, i % 2 == 0 ? 1 : 2);
+        }
+
+        // Act
+        map.retainStamp(2);
+
+        // Assert
+        assertEquals(5_000, map.size());
+        assertTrue(map.find("uid_2") < 0);
+        assertEquals(3, map.valueAt(map.find("uid_3")));
+    }
+}
@@ -0,0 +1,99 @@
+package sportbet.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for AliasIndex and MarketType name lookup
+ */
+class AliasIndexTest {
+
+    @Test
+    @DisplayName("Lookup ignores case and surrounding whitespace")
+    void get_caseInsensitiveAndTrimmed() {
+        // Arrange
+        AliasIndex index = new AliasIndex(new String[] {"1x2", "Both Teams To Score"}, new int[] {1, 50});
+
+        // Act & Assert
+        assertEquals(1, index.get("1X2"));
+        assertEquals(50, index.get("  both teams to SCORE\t"));
+        assertEquals(AliasIndex.NOT_FOUND, index.get("both teams"));
+        assertEquals(AliasIndex.NOT_FOUND, index.get(""));
+        assertEquals(AliasIndex.NOT_FOUND, index.get(null));
+    }
+
+    @Test
+    @DisplayName("Non-ASCII names resolve through the slow path")
+    void get_nonAscii() {
+        // Arrange
+        AliasIndex index = new AliasIndex(new String[] {"über total"}, new int[] {7});
+
+        // Act & Assert
+        assertEquals(7, index.get(" ÜBER Total "));
+        assertEquals(AliasIndex.NOT_FOUND, index.get("über"));
+    }
+
+    @Test
+    @DisplayName("First value wins for duplicate names")
+    void constructor_duplicates_firstWins() {
+        // Arrange
+        AliasIndex index = new AliasIndex(new String[] {"total", "TOTAL "}, new int[] {18, 68});
+
+        // Act & Assert
+        assertEquals(1, index.size());
+        assertEquals(18, index.get("total"));
+    }
+
+    @Test
+    @DisplayName("Every name of a large index resolves")
+    void get_largeIndex() {
+        // Arrange
+        int count = 10_000;
+        String[] names = new String[count];
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = "market type " + i;
+            values[i] = i;
+        }
+
+        // Act
+        AliasIndex index = new AliasIndex(names, values);
+
+        // Assert
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, index.get("Market Type " + i));
+        }
+        assertEquals(AliasIndex.NOT_FOUND, index.get("market type " + count));
+    }
+
+    @Test
+    @DisplayName("MarketType lookup resolves every alias")
+    void marketType_lookup() {
+        assertSame(MarketType.ONE_X_TWO, MarketType.lookup("1x2"));
+        assertSame(MarketType.FIRST_HALF_TOTAL, MarketType.lookup("1st Half - Total"));
+        assertSame(MarketType.BTTS, MarketType.fromName(" Both teams to score ").orElseThrow());
+        assertNull(MarketType.lookup("corners total"));
+        assertNull(MarketType.lookup(null));
+    }
+
+    @Test
+    @DisplayName("MarketType resolves selection type IDs without boxing")
+    void marketType_resolveSelectionTypeId() {
+        assertEquals(12, MarketType.TOTAL.resolveSelectionTypeIdOrMinus1("Over"));
+        assertEquals(13, MarketType.TOTAL.resolveSelectionTypeIdOrMinus1("u"));
+        assertEquals(1715, MarketType.HANDICAP.resolveSelectionTypeIdOrMinus1(" team b "));
+        assertEquals(-1, MarketType.BTTS.resolveSelectionTypeIdOrMinus1("draw"));
+        assertEquals(-1, MarketType.BTTS.resolveSelectionTypeIdOrMinus1(null));
+        assertEquals(10, MarketType.BTTS.resolveSelectionTypeId("yes").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Selection type ID strings are shared instances")
+    void marketType_selectionTypeIdString() {
+        assertEquals("1714", MarketType.HANDICAP.selectionTypeIdString(1714));
+        assertSame(MarketType.HANDICAP.selectionTypeIdString(1714), MarketType.SECOND_HALF_HANDICAP.selectionTypeIdString(1714));
+    }
+}
@@ -0,0 +1,74 @@
+package sportbet.domain;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for UnmappedMarketNames
+ */
+class UnmappedMarketNamesTest {
+
+    @Test
+    @DisplayName("Known names resolve as usual and are never cached")
+    void lookup_knownName_notCached() {
+        // Arrange
+        UnmappedMarketNames names = new UnmappedMarketNames(4);
+
+        // Act & Assert
+        assertSame(MarketType.ONE_X_TWO, names.lookup("1x2"));
+        assertSame(MarketType.ONE_X_TWO, names.lookup(" 1X2 "));
+        assertEquals(0, names.size());
+        assertEquals(0, names.getHits());
+    }
+
+    @Test
+    @DisplayName("Repeated unknown names are answered from the cache and ranked by count")
+    void lookup_unknownNames_countedAndRanked() {
+        // Arrange
+        UnmappedMarketNames names = new UnmappedMarketNames(4);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertNull(names.lookup("corners total"));
+        }
+        assertNull(names.lookup("first goalscorer"));
+        assertNull(names.lookup("Corners Total"));
+        assertNull(names.lookup("Corners Total"));
+
+        // Assert - exact keys, so the two spellings are counted apart
+        assertEquals(3, names.size());
+        assertEquals(3, names.getHits());
+        List<Map.Entry<String, Long>> top = names.top(2);
+        assertEquals(List.of(Map.entry("corners total", 3L), Map.entry("Corners Total", 2L)), top);
+    }
+
+    @Test
+    @DisplayName("A full cache stops admitting names but still rejects them")
+    void lookup_full_countsUntracked() {
+        // Arrange
+        UnmappedMarketNames names = new UnmappedMarketNames(1);
+
+        // Act
+        assertNull(names.lookup("corners total"));
+        assertNull(names.lookup("first goalscorer"));
+        assertNull(names.lookup("first goalscorer"));
+
+        // Assert
+        assertEquals(1, names.size());
+        assertEquals(2, names.getUntracked());
+        assertEquals(List.of(Map.entry("corners total", 1L)), names.top(10));
+    }
+
+    @Test
+    @DisplayName("Error when the capacity is not positive")
+    void constructor_zeroCapacity_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new UnmappedMarketNames(0));
+    }
+}
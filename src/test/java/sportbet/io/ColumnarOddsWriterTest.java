@@ -0,0 +1,142 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.core.MarketConverter;
+import sportbet.errors.FileFormatException;
+import sportbet.model.ParsedMarket;
+import sportbet.model.ParsedSelection;
+
+/**
+ * JUnit tests for ColumnarOddsWriter and ColumnarOddsFile
+ */
+class ColumnarOddsWriterTest {
+
+    private static final Path SAMPLE = Paths.get("src/test/resources/samples/market_input_example.json");
+    private static final Path EXPECTED = Paths.get("output_files/market_input_example_output.json");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Columns hold every selection of the committed sample output in order")
+    void write_sampleOutput_roundTrips() throws IOException {
+        // Arrange
+        JsonNode expected = new ObjectMapper().readTree(EXPECTED.toFile());
+        MarketConverter converter = new MarketConverter();
+        List<ParsedMarket> markets = new ArrayList<>();
+        new JacksonStreamingMarketReader().forEach(SAMPLE, m -> markets.add(converter.convert(m)));
+        Path target = tempDir.resolve("out.odds");
+
+        // Act
+        try (MarketWriter writer = new ColumnarOddsWriter(target)) {
+            markets.forEach(writer::write);
+            writer.commit();
+        }
+        ColumnarOddsFile file = ColumnarOddsFile.open(target);
+
+        // Assert
+        int row = 0;
+        long dictionaryBytes = 0;
+        for (JsonNode market : expected) {
+            for (JsonNode selection : market.get("selections")) {
+                assertEquals(selection.get("selection_uid").asText(), file.getSelectionUid(row));
+                assertEquals(selection.get("selection_type_id").asInt(), file.getSelectionTypeId(row));
+                assertEquals(selection.get("decimal_odds").asDouble(), file.getOdds(row));
+                dictionaryBytes += selection.get("selection_uid").asText().length();
+                row++;
+            }
+        }
+        assertEquals(row, file.getRowCount());
+        assertEquals(row, file.getDictionarySize());
+        assertEquals(ColumnarOddsFile.fileSize(row, row, dictionaryBytes), Files.size(target));
+    }
+
+    @Test
+    @DisplayName("Repeated UIDs share one dictionary entry")
+    void write_repeatedUid_encodedOnce() {
+        // Arrange
+        Path target = tempDir.resolve("out.odds");
+        ParsedMarket first = market("1_1", 1.5, 2.5);
+        ParsedMarket again = market("1_1", 1.6, 2.4);
+
+        // Act - more rows than the initial capacity
+        try (MarketWriter writer = new ColumnarOddsWriter(target)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.write(first);
+                writer.write(again);
+            }
+            writer.commit();
+        }
+        ColumnarOddsFile file = ColumnarOddsFile.open(target);
+
+        // Assert
+        assertEquals(4000, file.getRowCount());
+        assertEquals(2, file.getDictionarySize());
+        assertEquals(file.getUidId(0), file.getUidId(2));
+        assertEquals("1_1_2", file.getSelectionUid(3999));
+        DoubleBuffer odds = file.oddsColumn();
+        double sum = 0;
+        while (odds.hasRemaining()) {
+            sum += odds.get();
+        }
+        assertEquals(1000 * (1.5 + 2.5 + 1.6 + 2.4), sum, 1e-6);
+    }
+
+    @Test
+    @DisplayName("Nothing is written without commit")
+    void close_withoutCommit_leavesNoFile() {
+        // Arrange
+        Path target = tempDir.resolve("out.odds");
+
+        // Act
+        try (MarketWriter writer = new ColumnarOddsWriter(target)) {
+            writer.write(market("1_1", 1.5, 2.5));
+        }
+
+        // Assert
+        assertFalse(Files.exists(target));
+        assertFalse(Files.exists(tempDir.resolve("out.odds.tmp")));
+    }
+
+    @Test
+    @DisplayName("Files that are not columnar odds files are rejected")
+    void open_wrongFile_throws() throws IOException {
+        // Arrange
+        Path truncated = tempDir.resolve("truncated.odds");
+        try (MarketWriter writer = new ColumnarOddsWriter(truncated)) {
+            writer.write(market("1_1", 1.5, 2.5));
+            writer.commit();
+        }
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+
+        // Act & Assert
+        assertThrows(FileFormatException.class, () -> ColumnarOddsFile.open(EXPECTED));
+        assertThrows(FileFormatException.class, () -> ColumnarOddsFile.open(truncated));
+    }
+
+    private static ParsedMarket market(String marketUid, double first, double second) {
+        return new ParsedMarket(marketUid, "1", Map.of(), List.of(
+                new ParsedSelection(marketUid + "_1", 1, first),
+                new ParsedSelection(marketUid + "_2", 2, second)));
+    }
+}
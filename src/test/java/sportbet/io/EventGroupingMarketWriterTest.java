@@ -0,0 +1,174 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.core.MarketConverter;
+import sportbet.errors.FileFormatException;
+import sportbet.model.ParsedMarket;
+import sportbet.model.RawMarket;
+import sportbet.model.RawSelection;
+
+/**
+ * JUnit tests for EventGroupingMarketWriter and EventIndex
+ */
+class EventGroupingMarketWriterTest {
+
+    private final ObjectMapper reader = new ObjectMapper();
+    private final MarketConverter converter = new MarketConverter();
+
+    @TempDir
+    Path tempDir;
+
+    // Interleaved events: 0 to 4 in turn, plus a non-numeric one every 10th market
+    private List<ParsedMarket> markets(int count) {
+        List<ParsedMarket> markets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String eventId = i % 10 == 9 ? "ev-x" : String.valueOf(1000 + i % 5);
+            List<RawSelection> selections = List.of(
+                new RawSelection("over " + (i % 3) + ".5", 1.5 + i / 100.0),
+                new RawSelection("under " + (i % 3) + ".5", 2.5));
+            markets.add(converter.convert(new RawMarket("Total", eventId, selections)));
+        }
+        return markets;
+    }
+
+    private Path write(OutputFormat format, List<ParsedMarket> markets) {
+        Path target = tempDir.resolve(format.getCliName() + ".json");
+        try (MarketWriter writer = format.eventGroupingWriterFactory().open(target)) {
+            markets.forEach(writer::write);
+            writer.commit();
+        }
+        return target;
+    }
+
+    @Test
+    @DisplayName("Markets are grouped by event in first-seen order, same content and order within an event")
+    void commit_groupsMarketsByEvent() throws IOException {
+        // Arrange
+        List<ParsedMarket> markets = markets(100);
+
+        // Act
+        Path target = write(OutputFormat.JSON, markets);
+
+        // Assert
+        JsonNode groups = reader.readTree(target.toFile());
+        List<String> eventIds = new ArrayList<>();
+        groups.forEach(group -> eventIds.add(group.get("event_id").asText()));
+        assertEquals(List.of("1000", "1001", "1002", "1003", "1004", "ev-x"), eventIds);
+        JsonNode flat = reader.valueToTree(markets);
+        List<JsonNode> expected = new ArrayList<>();
+        flat.forEach(market -> {
+            if (market.get("market_uid").asText().startsWith("1002_")) expected.add(market);
+        });
+        List<JsonNode> actual = new ArrayList<>();
+        groups.get(2).get("markets").forEach(actual::add);
+        assertEquals(expected, actual);
+        assertFalse(Files.exists(tempDir.resolve("json.json.spill")));
+    }
+
+    @Test
+    @DisplayName("Event IDs containing '_' are grouped by the raw event ID, not the market UID prefix")
+    void commit_underscoreEventIds_groupedByRawEventId() throws IOException {
+        // Arrange
+        List<ParsedMarket> markets = new ArrayList<>();
+        for (String eventId : new String[] {"sr_match_1", "sr_match_2", "sr_match_1"}) {
+            markets.add(converter.convert(new RawMarket("Both teams to score", eventId, List.of(
+                new RawSelection("yes", 1.8), new RawSelection("no", 1.9)))));
+        }
+
+        // Act
+        Path target = write(OutputFormat.JSON, markets);
+
+        // Assert
+        JsonNode groups = reader.readTree(target.toFile());
+        assertEquals(2, groups.size());
+        assertEquals("sr_match_1", groups.get(0).get("event_id").asText());
+        assertEquals(2, groups.get(0).get("markets").size());
+        assertEquals("sr_match_2", groups.get(1).get("event_id").asText());
+        assertEquals(1, groups.get(1).get("markets").size());
+        EventIndex index = EventIndex.load(EventIndex.pathFor(target));
+        assertEquals(groups.get(1), reader.readTree(index.readEvent(target, "sr_match_2")));
+    }
+
+    @Test
+    @DisplayName("Every index entry points at exactly its event's object, in both JSON formats")
+    void commit_indexSlicesParseAlone() throws IOException {
+        for (OutputFormat format : new OutputFormat[] {OutputFormat.JSON, OutputFormat.JSON_COMPACT}) {
+            // Arrange
+            Path target = write(format, markets(100));
+            JsonNode groups = reader.readTree(target.toFile());
+
+            // Act
+            EventIndex index = EventIndex.load(EventIndex.pathFor(target));
+
+            // Assert
+            assertEquals(groups.size(), index.size());
+            for (int i = 0; i < groups.size(); i++) {
+                EventIndex.Entry entry = index.getEntries().get(i);
+                JsonNode slice = reader.readTree(index.readEvent(target, entry.getEventId()));
+                assertEquals(groups.get(i), slice, format + " " + entry.getEventId());
+                assertEquals(slice.get("markets").size(), entry.getMarkets());
+            }
+            assertEquals(10, index.get("ev-x").getMarkets());
+            assertNull(index.readEvent(target, "999"));
+        }
+    }
+
+    @Test
+    @DisplayName("Empty output is an empty array with a header-only index")
+    void commit_nothing_writesEmptyArray() throws IOException {
+        // Act
+        Path target = write(OutputFormat.JSON_COMPACT, List.of());
+
+        // Assert
+        assertEquals("[]", Files.readString(target));
+        assertEquals(0, EventIndex.load(EventIndex.pathFor(target)).size());
+    }
+
+    @Test
+    @DisplayName("Closing without commit leaves no data, index or spill file")
+    void close_withoutCommit_discardsOutput() throws IOException {
+        // Arrange
+        Path target = tempDir.resolve("discarded.json");
+
+        // Act
+        try (MarketWriter writer = OutputFormat.JSON.eventGroupingWriterFactory().open(target)) {
+            markets(10).forEach(writer::write);
+        }
+
+        // Assert
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Error when the index header is not the expected one")
+    void load_badHeader_throwsException() throws IOException {
+        Path file = tempDir.resolve("bad.idx");
+        Files.write(file, "event\toffset\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(FileFormatException.class, () -> EventIndex.load(file));
+    }
+
+    @Test
+    @DisplayName("Binary formats cannot be grouped")
+    void eventGroupingWriterFactory_binary_throwsException() {
+        assertThrows(UnsupportedOperationException.class, () -> OutputFormat.SMILE.eventGroupingWriterFactory());
+    }
+}
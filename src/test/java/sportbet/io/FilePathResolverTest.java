@@ -0,0 +1,96 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import sportbet.errors.MissingFileException;
+
+/**
+ * JUnit tests for FilePathResolver batch input resolution
+ */
+class FilePathResolverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(tempDir.resolve("b.json"), "[]");
+        Files.writeString(tempDir.resolve("a.json"), "[]");
+        Files.writeString(tempDir.resolve("notes.txt"), "");
+        Files.createDirectory(tempDir.resolve("nested.json"));
+    }
+
+    @Test
+    @DisplayName("Directory expands to its JSON files in sorted order")
+    void resolveInputPaths_directory_listsJsonFiles() {
+        // Act
+        List<Path> files = FilePathResolver.resolveInputPaths(tempDir.toString());
+
+        // Assert
+        assertEquals(List.of(tempDir.resolve("a.json"), tempDir.resolve("b.json")), files);
+    }
+
+    @Test
+    @DisplayName("Glob in the last segment matches regular files only")
+    void resolveInputPaths_glob_matchesFiles() {
+        // Act
+        List<Path> files = FilePathResolver.resolveInputPaths(tempDir + "/*.{json,txt}");
+
+        // Assert
+        assertEquals(3, files.size());
+        assertEquals(tempDir.resolve("notes.txt"), files.get(2));
+    }
+
+    @Test
+    @DisplayName("Plain file resolves to a single path")
+    void resolveInputPaths_file_singlePath() {
+        // Act
+        List<Path> files = FilePathResolver.resolveInputPaths(tempDir.resolve("a.json").toString());
+
+        // Assert
+        assertEquals(List.of(tempDir.resolve("a.json")), files);
+    }
+
+    @Test
+    @DisplayName("Glob without matches is a missing file error")
+    void resolveInputPaths_noMatch_throws() {
+        assertThrows(MissingFileException.class,
+            () -> FilePathResolver.resolveInputPaths(tempDir + "/*.csv"));
+    }
+
+    @Test
+    @DisplayName("Batch inputs are globs and directories, not files")
+    void isBatchInput_detectsGlobsAndDirectories() {
+        assertTrue(FilePathResolver.isBatchInput(tempDir.toString()));
+        assertTrue(FilePathResolver.isBatchInput("input_files/*.json"));
+        assertFalse(FilePathResolver.isBatchInput(tempDir.resolve("a.json").toString()));
+    }
+
+    @Test
+    @DisplayName("An existing file whose name contains glob characters is a single input, not a pattern")
+    void resolveInputPaths_literalFileWithGlobCharacters_singlePath() throws IOException {
+        // Arrange - as a glob, "odds[1].json" would match odds1.json instead
+        Path literal = Files.writeString(tempDir.resolve("odds[1].json"), "[]");
+        Files.writeString(tempDir.resolve("odds1.json"), "[]");
+
+        // Act
+        List<Path> files = FilePathResolver.resolveInputPaths(literal.toString());
+
+        // Assert
+        assertEquals(List.of(literal), files);
+        assertFalse(FilePathResolver.isBatchInput(literal.toString()));
+        assertTrue(FilePathResolver.isBatchInput(tempDir + "/odds[0-9].json"));
+    }
+}
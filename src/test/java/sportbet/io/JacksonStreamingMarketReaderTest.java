@@ -0,0 +1,98 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import sportbet.errors.FileFormatException;
+import sportbet.errors.JsonReadException;
+import sportbet.errors.MissingFileException;
+import sportbet.model.RawMarket;
+
+/**
+ * JUnit tests for JacksonStreamingMarketReader
+ */
+class JacksonStreamingMarketReaderTest {
+
+    private static final Path SAMPLE = Paths.get("src/test/resources/samples/market_input_example.json");
+
+    private JacksonStreamingMarketReader reader;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        reader = new JacksonStreamingMarketReader();
+    }
+
+    @Test
+    @DisplayName("Streams the same markets as the list reader, in order")
+    void open_matchesListReader() {
+        // Arrange
+        List<RawMarket> expected = new JacksonListMarketReader().read(SAMPLE);
+
+        // Act
+        List<RawMarket> streamed = new ArrayList<>();
+        reader.forEach(SAMPLE, streamed::add);
+
+        // Assert
+        assertEquals(expected.size(), streamed.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), streamed.get(i).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Empty array yields no markets")
+    void open_emptyArray() throws IOException {
+        // Arrange
+        Path file = Files.writeString(tempDir.resolve("empty.json"), "[ ]");
+
+        // Act & Assert
+        try (MarketCursor cursor = reader.open(file)) {
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Error when root is not an array")
+    void open_objectRoot_throwsException() throws IOException {
+        // Arrange
+        Path file = Files.writeString(tempDir.resolve("object.json"), "{\"name\": \"1x2\"}");
+
+        // Act & Assert
+        assertThrows(FileFormatException.class, () -> reader.open(file));
+    }
+
+    @Test
+    @DisplayName("Error on malformed element is raised while iterating")
+    void next_brokenElement_throwsException() throws IOException {
+        // Arrange
+        Path file = Files.writeString(tempDir.resolve("broken.json"),
+            "[{\"name\": \"1x2\", \"event_id\": \"1\", \"selections\": []}, {\"name\": ");
+
+        // Act & Assert
+        try (MarketCursor cursor = reader.open(file)) {
+            cursor.next();
+            assertThrows(JsonReadException.class, cursor::hasNext);
+        }
+    }
+
+    @Test
+    @DisplayName("Error when file is missing")
+    void open_missingFile_throwsException() {
+        assertThrows(MissingFileException.class, () -> reader.open(tempDir.resolve("missing.json")));
+    }
+}
@@ -0,0 +1,88 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import sportbet.core.MarketConverter;
+
+/**
+ * JUnit tests for JacksonStreamingMarketWriter
+ */
+class JacksonStreamingMarketWriterTest {
+
+    private static final Path SAMPLE = Paths.get("src/test/resources/samples/market_input_example.json");
+    private static final Path EXPECTED = Paths.get("output_files/market_input_example_output.json");
+
+    private ObjectMapper mapper;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ObjectMapper();
+        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Test
+    @DisplayName("Output is byte-identical to the committed sample output")
+    void write_matchesCommittedOutput() throws IOException {
+        // Arrange
+        MarketConverter converter = new MarketConverter();
+        Path target = tempDir.resolve("out.json");
+
+        // Act - a tiny buffer forces many intermediate flushes
+        try (MarketWriter writer = new JacksonStreamingMarketWriter(mapper, target, 16)) {
+            new JacksonStreamingMarketReader().forEach(SAMPLE, m -> writer.write(converter.convert(m)));
+            writer.commit();
+        }
+
+        // Assert
+        assertArrayEquals(Files.readAllBytes(EXPECTED), Files.readAllBytes(target));
+    }
+
+    @Test
+    @DisplayName("Empty output matches serializing an empty list")
+    void write_nothing_matchesEmptyList() throws IOException {
+        // Arrange
+        Path target = tempDir.resolve("empty.json");
+
+        // Act
+        try (MarketWriter writer = new JacksonStreamingMarketWriter(mapper, target)) {
+            writer.commit();
+        }
+
+        // Assert
+        assertEquals(mapper.writeValueAsString(List.of()), Files.readString(target));
+    }
+
+    @Test
+    @DisplayName("Closing without commit leaves no output file")
+    void close_withoutCommit_discardsOutput() {
+        // Arrange
+        Path target = tempDir.resolve("aborted.json");
+
+        // Act
+        try (MarketWriter writer = new JacksonStreamingMarketWriter(mapper, target)) {
+            // nothing committed
+        }
+
+        // Assert
+        assertFalse(Files.exists(target));
+        assertFalse(Files.exists(tempDir.resolve("aborted.json.tmp")));
+    }
+}
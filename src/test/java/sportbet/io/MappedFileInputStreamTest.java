@@ -0,0 +1,105 @@
+package sportbet.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JUnit tests for MappedFileInputStream and the memory-mapped reader mode
+ */
+class MappedFileInputStreamTest {
+
+    private static final Path SAMPLE = Paths.get("src/test/resources/samples/market_input_example.json");
+
+    @TempDir
+    Path tempDir;
+
+    private static byte[] readAll(InputStream in, int bufferSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[bufferSize];
+        int n;
+        while ((n = in.read(buffer, 0, buffer.length)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Bytes are identical across chunk boundaries")
+    void read_smallChunks_sameBytes() throws IOException {
+        // Arrange
+        byte[] data = new byte[10_007];
+        new Random(7).nextBytes(data);
+        Path file = tempDir.resolve("data.bin");
+        Files.write(file, data);
+
+        // Act + Assert
+        for (int chunkSize : new int[] {7, 4096, 10_007, 1 << 20}) {
+            try (InputStream in = new MappedFileInputStream(file, chunkSize)) {
+                assertArrayEquals(data, readAll(in, 1000), "chunk size " + chunkSize);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Single-byte reads, skip and available follow the file")
+    void readSkipAvailable() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("abc.txt");
+        Files.write(file, new byte[] {'a', 'b', 'c', 'd', 'e'});
+
+        // Act + Assert
+        try (InputStream in = new MappedFileInputStream(file, 2)) {
+            assertEquals(5, in.available());
+            assertEquals('a', in.read());
+            assertEquals(3, in.skip(3));
+            assertEquals(1, in.available());
+            assertEquals('e', in.read());
+            assertEquals(-1, in.read());
+            assertEquals(0, in.skip(10));
+        }
+    }
+
+    @Test
+    @DisplayName("Empty file is an immediate end of stream")
+    void read_emptyFile() throws IOException {
+        Path file = tempDir.resolve("empty.json");
+        Files.createFile(file);
+
+        try (InputStream in = new MappedFileInputStream(file)) {
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Memory-mapped reader yields the same markets as the stream reader")
+    void reader_memoryMapped_sameMarkets() {
+        // Arrange
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        List<String> expected = new ArrayList<>();
+        List<String> actual = new ArrayList<>();
+
+        // Act
+        new JacksonStreamingMarketReader(mapper).forEach(SAMPLE, m -> expected.add(m.toString()));
+        new JacksonStreamingMarketReader(mapper, true).forEach(SAMPLE, m -> actual.add(m.toString()));
+
+        // Assert
+        assertEquals(7, actual.size());
+        assertEquals(expected, actual);
+    }
+}
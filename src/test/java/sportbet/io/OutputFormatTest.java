@@ -0,0 +1,87 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.core.MarketConverter;
+import sportbet.model.ParsedMarket;
+
+/**
+ * JUnit tests for OutputFormat
+ */
+class OutputFormatTest {
+
+    private static final Path SAMPLE = Paths.get("src/test/resources/samples/market_input_example.json");
+    private static final Path EXPECTED = Paths.get("output_files/market_input_example_output.json");
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeSample(OutputFormat format) {
+        MarketConverter converter = new MarketConverter();
+        List<ParsedMarket> markets = new ArrayList<>();
+        new JacksonStreamingMarketReader().forEach(SAMPLE, m -> markets.add(converter.convert(m)));
+
+        Path target = tempDir.resolve("out_" + format.getCliName());
+        try (MarketWriter writer = format.writerFactory().open(target)) {
+            markets.forEach(writer::write);
+            writer.commit();
+        }
+        return target;
+    }
+
+    @Test
+    @DisplayName("Every JSON format decodes to the same tree as the committed JSON output")
+    void write_allFormats_sameTree() throws IOException {
+        JsonNode expected = new ObjectMapper().readTree(EXPECTED.toFile());
+
+        for (OutputFormat format : OutputFormat.values()) {
+            if (!format.isMarketComplete()) continue;
+            JsonNode actual = format.createMapper().readTree(writeSample(format).toFile());
+            assertEquals(expected, actual, format.getCliName());
+        }
+    }
+
+    @Test
+    @DisplayName("Compact and binary output are smaller than indented JSON")
+    void write_compactFormats_smaller() throws IOException {
+        long pretty = Files.size(writeSample(OutputFormat.JSON));
+        long compact = Files.size(writeSample(OutputFormat.JSON_COMPACT));
+        long smile = Files.size(writeSample(OutputFormat.SMILE));
+
+        assertTrue(compact < pretty, "compact " + compact + " vs pretty " + pretty);
+        assertTrue(smile < compact, "smile " + smile + " vs compact " + compact);
+    }
+
+    @Test
+    @DisplayName("Formats are looked up by CLI name")
+    void fromCliName_knownAndUnknown() {
+        assertEquals(OutputFormat.JSON_COMPACT, OutputFormat.fromCliName("json-compact"));
+        assertEquals(OutputFormat.SMILE, OutputFormat.fromCliName("smile"));
+        assertEquals(OutputFormat.COLUMNAR, OutputFormat.fromCliName("columnar"));
+        assertThrows(IllegalArgumentException.class, () -> OutputFormat.fromCliName("cbor"));
+    }
+
+    @Test
+    @DisplayName("Binary formats get their own extension")
+    void resolveOutputPath_byFormat() {
+        assertEquals(Paths.get("output_files", "markets_output.json"),
+            FilePathResolver.resolveOutputPath("markets.json", OutputFormat.JSON_COMPACT));
+        assertEquals(Paths.get("output_files", "markets_output.sml"),
+            FilePathResolver.resolveOutputPath("input_files/markets.json", OutputFormat.SMILE));
+    }
+}
@@ -0,0 +1,160 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.errors.FileFormatException;
+import sportbet.errors.JsonReadException;
+import sportbet.errors.MissingFileException;
+
+/**
+ * JUnit tests for ParallelMarketReader
+ */
+class ParallelMarketReaderTest {
+
+    private static final Path SAMPLE = Paths.get("src/test/resources/samples/market_input_example.json");
+
+    private ObjectMapper mapper;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    private List<String> read(JsonMarketStreamReader reader, Path file) {
+        List<String> markets = new ArrayList<>();
+        reader.forEach(file, m -> markets.add(String.valueOf(m)));
+        return markets;
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+
+    // Names with quotes, escapes, brackets and commas that a naive splitter would cut on
+    private static String trickyFeed(int markets, long seed) {
+        String[] names = {"Total", "1x2", "say \\\"hi\\\", {x}", "back\\\\slash]", "[a,b]", "tab\\t}{", "\\u005d,"};
+        Random random = new Random(seed);
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < markets; i++) {
+            if (i > 0) json.append(random.nextBoolean() ? ",\n" : " , ");
+            json.append("{\"name\":\"").append(names[random.nextInt(names.length)]).append(i)
+                .append("\",\"event_id\":\"").append(random.nextInt(1000))
+                .append("\",\"extra\":{\"nested\":[1,{\"a\":\"]\"}],\"s\":\"}\"},\"selections\":[");
+            int selections = random.nextInt(4);
+            for (int s = 0; s < selections; s++) {
+                if (s > 0) json.append(',');
+                json.append("{\"name\":\"over ").append(s).append(".5\",\"odds\":").append(1 + random.nextInt(300) / 100.0).append('}');
+            }
+            json.append("]}");
+        }
+        return json.append("\n]\n").toString();
+    }
+
+    @Test
+    @DisplayName("Markets come back in file order for any range size")
+    void read_trickyFeed_sameAsStreamingReader() throws IOException {
+        // Arrange
+        Path file = write("tricky.json", trickyFeed(2_000, 42));
+        List<String> expected = read(new JacksonStreamingMarketReader(mapper), file);
+
+        // Act + Assert
+        for (int rangeBytes : new int[] {1, 100, 4_096, 1 << 20}) {
+            for (int threads : new int[] {1, 3}) {
+                assertEquals(expected, read(new ParallelMarketReader(mapper, threads, false, rangeBytes), file),
+                    "rangeBytes=" + rangeBytes + " threads=" + threads);
+            }
+        }
+        assertEquals(expected, read(new ParallelMarketReader(mapper, 2, true), file));
+        assertEquals(2_000, expected.size());
+    }
+
+    @Test
+    @DisplayName("Sample file matches the streaming reader")
+    void read_sample_sameAsStreamingReader() {
+        assertEquals(read(new JacksonStreamingMarketReader(mapper), SAMPLE),
+            read(new ParallelMarketReader(mapper, 4, false, 1), SAMPLE));
+    }
+
+    @Test
+    @DisplayName("Empty array yields no markets")
+    void read_emptyArray() throws IOException {
+        assertTrue(read(new ParallelMarketReader(mapper, 2), write("empty.json", " [ ] ")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Open fails like the streaming reader")
+    void open_invalidFiles_throw() throws IOException {
+        ParallelMarketReader reader = new ParallelMarketReader(mapper, 2);
+
+        assertThrows(MissingFileException.class, () -> reader.open(tempDir.resolve("missing.json")));
+        assertThrows(JsonReadException.class, () -> reader.open(write("blank.json", "  \n")));
+        assertThrows(FileFormatException.class, () -> reader.open(write("object.json", "{\"name\":\"Total\"}")));
+    }
+
+    @Test
+    @DisplayName("Markets before a syntax error are delivered before the error")
+    void read_truncated_failsAfterEarlierMarkets() throws IOException {
+        // Arrange
+        String feed = trickyFeed(50, 7);
+        Path file = write("truncated.json", feed.substring(0, feed.length() / 2));
+        List<String> seen = new ArrayList<>();
+
+        // Act + Assert
+        assertThrows(JsonReadException.class,
+            () -> new ParallelMarketReader(mapper, 2, false, 200).forEach(file, m -> seen.add(m.toString())));
+        assertTrue(seen.size() > 10, "markets before the cut: " + seen.size());
+    }
+
+    @Test
+    @DisplayName("Missing elements next to a range split fail like the streaming reader")
+    void read_missingElements_failLikeStreamingReader() throws IOException {
+        String market = "{\"name\":\"a\"}";
+        String[] feeds = {
+            "[" + market + "," + market + ",]",
+            "[" + market + ",  \n]",
+            "[," + market + "]",
+            "[" + market + ", ," + market + "]"
+        };
+        for (int i = 0; i < feeds.length; i++) {
+            Path file = write("missing" + i + ".json", feeds[i]);
+            assertThrows(JsonReadException.class, () -> read(new JacksonStreamingMarketReader(mapper), file), feeds[i]);
+            for (int rangeBytes : new int[] {1, 4_096}) {
+                ParallelMarketReader reader = new ParallelMarketReader(mapper, 2, false, rangeBytes);
+                assertThrows(JsonReadException.class, () -> read(reader, file), feeds[i] + " rangeBytes=" + rangeBytes);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A UTF-8 byte order mark before the array is accepted like the streaming reader")
+    void read_byteOrderMark_sameAsStreamingReader() throws IOException {
+        // Arrange
+        Path file = write("bom.json", "\uFEFF" + trickyFeed(20, 3));
+        List<String> expected = read(new JacksonStreamingMarketReader(mapper), file);
+
+        // Act + Assert
+        assertEquals(20, expected.size());
+        assertEquals(expected, read(new ParallelMarketReader(mapper, 2, false, 1), file));
+        assertEquals(expected, read(new ParallelMarketReader(mapper, 2, true), file));
+    }
+}
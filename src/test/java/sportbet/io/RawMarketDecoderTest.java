@@ -0,0 +1,126 @@
+package sportbet.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.model.RawMarket;
+import sportbet.model.RawSelection;
+
+/**
+ * JUnit tests for RawMarketDecoder
+ */
+class RawMarketDecoderTest {
+
+    private static final Path SAMPLE = Paths.get("src/test/resources/samples/market_input_example.json");
+
+    private ObjectMapper mapper;
+    private RawMarketDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        decoder = new RawMarketDecoder(mapper);
+    }
+
+    private RawMarket decode(String json, RawMarket reuse) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            parser.nextToken();
+            return decoder.decode(parser, reuse);
+        }
+    }
+
+    @Test
+    @DisplayName("Decodes the sample the same way databind does, also when reusing one holder")
+    void decode_sample_matchesDatabind() throws IOException {
+        // Arrange
+        List<RawMarket> expected = mapper.readValue(Files.readAllBytes(SAMPLE),
+                mapper.getTypeFactory().constructCollectionType(List.class, RawMarket.class));
+
+        // Act & Assert
+        RawMarket holder = null;
+        try (JsonParser parser = mapper.getFactory().createParser(SAMPLE.toFile())) {
+            assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+            for (RawMarket market : expected) {
+                parser.nextToken();
+                holder = decoder.decode(parser, holder);
+                assertEquals(market.toString(), holder.toString());
+            }
+            assertEquals(JsonToken.END_ARRAY, parser.nextToken());
+        }
+    }
+
+    @Test
+    @DisplayName("A reused market keeps its instance, list and selections")
+    void decode_reuse_recyclesSelections() throws IOException {
+        // Arrange
+        RawMarket first = decode("{\"name\":\"1x2\",\"event_id\":\"1\",\"selections\":"
+                + "[{\"name\":\"1\",\"odds\":1.5},{\"name\":\"X\",\"odds\":3}]}", null);
+        List<RawSelection> list = first.getSelections();
+        RawSelection selection = list.get(1);
+
+        // Act
+        RawMarket second = decode("{\"name\":\"Total\",\"selections\":[{\"name\":\"over 2.5\"}]}", first);
+
+        // Assert
+        assertSame(first, second);
+        assertSame(list, second.getSelections());
+        assertSame(selection, second.getSelections().get(0));
+        assertEquals(1, second.getSelections().size());
+        assertNull(second.getEvent_id());
+        assertEquals("over 2.5", second.getSelections().get(0).getName());
+        assertFalse(second.getSelections().get(0).hasOdds());
+    }
+
+    @Test
+    @DisplayName("Unusual tokens are coerced by the mapper and unknown fields are skipped")
+    void decode_unusualTokens_matchDatabind() throws IOException {
+        // Arrange
+        String json = "{\"extra\":{\"a\":[1,2]},\"name\":\"1x2\",\"event_id\":123,"
+                + "\"selections\":[{\"name\":\"1\",\"odds\":\"1.5\",\"x\":[]},null,{\"name\":\"2\",\"odds\":null}]}";
+
+        // Act
+        RawMarket market = decode(json, null);
+
+        // Assert
+        assertEquals(mapper.readValue(json, RawMarket.class).toString(), market.toString());
+        assertEquals("123", market.getEvent_id());
+        assertTrue(market.getSelections().get(0).hasOdds());
+        assertEquals(1.5, market.getSelections().get(0).getOddsValue());
+        assertNull(market.getSelections().get(1));
+        assertFalse(market.getSelections().get(2).hasOdds());
+    }
+
+    @Test
+    @DisplayName("Odds that are not numbers fail like databind does")
+    void decode_invalidOdds_throws() {
+        String json = "{\"name\":\"1x2\",\"selections\":[{\"name\":\"1\",\"odds\":\"invalid_odds\"}]}";
+        assertThrows(IOException.class, () -> mapper.readValue(json, RawMarket.class));
+        assertThrows(IOException.class, () -> decode(json, null));
+    }
+
+    @Test
+    @DisplayName("Mappers that fail on unknown properties are rejected")
+    void constructor_strictMapper_throws() {
+        ObjectMapper strict = new ObjectMapper();
+        assertFalse(RawMarketDecoder.supports(strict));
+        assertThrows(IllegalArgumentException.class, () -> new RawMarketDecoder(strict));
+    }
+}
@@ -0,0 +1,52 @@
+package sportbet.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import sportbet.errors.ErrorCode;
+
+/**
+ * JUnit tests for ConversionMetrics
+ */
+class ConversionMetricsTest {
+
+    @Test
+    @DisplayName("Counts markets, selections and failures by code")
+    void record_countsByOutcome() {
+        // Arrange
+        ConversionMetrics metrics = new ConversionMetrics();
+
+        // Act
+        metrics.recordConverted(3);
+        metrics.recordConverted(2);
+        metrics.recordFailure(ErrorCode.UNKNOWN_MARKET_TYPE);
+        metrics.recordFailure(ErrorCode.UNKNOWN_SELECTION_TYPE);
+        metrics.recordFailure(ErrorCode.UNKNOWN_MARKET_TYPE);
+
+        // Assert
+        assertEquals(5, metrics.getMarkets());
+        assertEquals(2, metrics.getConverted());
+        assertEquals(5, metrics.getSelections());
+        assertEquals(2, metrics.getFailures(ErrorCode.UNKNOWN_MARKET_TYPE));
+        assertEquals(1, metrics.getFailures(ErrorCode.UNKNOWN_SELECTION_TYPE));
+        assertTrue(metrics.progressLine().contains("failures={UNKNOWN_MARKET_TYPE=2, UNKNOWN_SELECTION_TYPE=1}"));
+    }
+
+    @Test
+    @DisplayName("Report lists only stages that were timed")
+    void report_listsTimedStages() {
+        // Arrange
+        ConversionMetrics metrics = new ConversionMetrics();
+        metrics.recordLatency(ConversionMetrics.Stage.CONVERT, 2_000);
+
+        // Act
+        String report = metrics.report();
+
+        // Assert
+        assertTrue(report.contains("Latency convert  count=1"));
+        assertFalse(report.contains("Latency read"));
+    }
+}
@@ -0,0 +1,105 @@
+package sportbet.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for LatencyHistogram
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Every value lands in a bucket whose bounds contain it")
+    void bucket_boundsContainValue() {
+        for (long value : new long[] {0, 1, 7, 8, 9, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE / 3}) {
+            int bucket = LatencyHistogram.bucket(value);
+            assertTrue(LatencyHistogram.lowerBound(bucket) <= value, "lower bound of " + value);
+            assertTrue(value < LatencyHistogram.lowerBound(bucket + 1), "upper bound of " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("Percentiles are within one bucket of the exact value")
+    void snapshot_percentilesWithinBucketError() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 10_000; nanos++) {
+            histogram.record(nanos * 100);
+        }
+
+        // Act
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(1_000_000, snapshot.getMaxNanos());
+        assertEquals(500_050, snapshot.getMeanNanos(), 0.001);
+        assertEquals(500_000, snapshot.getPercentileNanos(0.50), 500_000 * 0.125);
+        assertEquals(990_000, snapshot.getPercentileNanos(0.99), 990_000 * 0.125);
+        assertEquals(1_000_000, snapshot.getPercentileNanos(1.0));
+    }
+
+    @Test
+    @DisplayName("Recordings from several threads are merged")
+    void snapshot_mergesThreads() throws InterruptedException {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    histogram.record(50);
+                }
+            }));
+        }
+
+        // Act
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertEquals(4_000, histogram.snapshot().getCount());
+    }
+
+    @Test
+    @DisplayName("Empty histogram reports zeros")
+    void snapshot_empty() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getPercentileNanos(0.99));
+        assertEquals(0.0, snapshot.getMeanNanos());
+    }
+
+    @Test
+    @DisplayName("Released threads keep their counts but drop their recorders")
+    void releaseThread_keepsCountsDropsRecorder() throws InterruptedException {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5);
+
+        // Act - short-lived threads, like pipeline stages of one file each
+        for (int i = 0; i < 20; i++) {
+            Thread thread = new Thread(() -> {
+                histogram.record(1_000);
+                histogram.record(2_000_000);
+                histogram.releaseThread();
+            });
+            thread.start();
+            thread.join();
+        }
+
+        // Assert
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(41, snapshot.getCount());
+        assertEquals(2_000_000, snapshot.getMaxNanos());
+        assertEquals(1, histogram.recorderCount());
+    }
+}
@@ -0,0 +1,81 @@
+package sportbet.model;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import sportbet.domain.SpecifierType;
+
+/**
+ * JUnit tests for ParsedMarketSerializer
+ */
+class ParsedMarketSerializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Specifier and selections are written in the former bean shape")
+    void serialize_totalMarket_beanShape() throws JsonProcessingException {
+        // Arrange
+        ParsedMarket market = new ParsedMarket("1_18_2.5", "18", SpecifierType.TOTAL, "2.5", new ParsedSelection[] {
+            new ParsedSelection("1_18_2.5_12", 12, 1.85),
+            new ParsedSelection("1_18_2.5_13", 13, 1.95)
+        });
+
+        // Act
+        String json = mapper.writeValueAsString(market);
+
+        // Assert
+        assertEquals("{\"market_uid\":\"1_18_2.5\",\"market_type_id\":\"18\",\"specifiers\":{\"total\":\"2.5\"},"
+                + "\"selections\":[{\"selection_uid\":\"1_18_2.5_12\",\"selection_type_id\":\"12\",\"decimal_odds\":1.85},"
+                + "{\"selection_uid\":\"1_18_2.5_13\",\"selection_type_id\":\"13\",\"decimal_odds\":1.95}]}", json);
+    }
+
+    @Test
+    @DisplayName("Markets without specifier or selections keep empty containers and nulls, also when indented")
+    void serialize_tombstone_emptyContainers() throws JsonProcessingException {
+        // Arrange
+        ParsedMarket tombstone = new ParsedMarket("garbage", null, Map.of(), List.of());
+        ObjectMapper pretty = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        // Act
+        String compact = mapper.writeValueAsString(tombstone);
+        String indented = pretty.writeValueAsString(tombstone);
+
+        // Assert
+        assertEquals("{\"market_uid\":\"garbage\",\"market_type_id\":null,\"specifiers\":{},\"selections\":[]}", compact);
+        assertEquals("{\n  \"market_uid\" : \"garbage\",\n  \"market_type_id\" : null,\n  \"specifiers\" : { },\n"
+                + "  \"selections\" : [ ]\n}", indented.replace("\r\n", "\n"));
+    }
+
+    @Test
+    @DisplayName("Selections serialize on their own with a string type ID")
+    void serialize_selection_stringTypeId() throws JsonProcessingException {
+        assertEquals("{\"selection_uid\":\"1_1_5000\",\"selection_type_id\":\"5000\",\"decimal_odds\":2.0}",
+                mapper.writeValueAsString(new ParsedSelection("1_1_5000", 5000, 2.0)));
+    }
+
+    @Test
+    @DisplayName("The map constructor accepts one known specifier only")
+    void construct_fromMap_singleKnownSpecifier() {
+        // Arrange & Act
+        ParsedMarket market = new ParsedMarket("1_16_-0.5", "16", Map.of("hcp", "-0.5"), List.of());
+
+        // Assert
+        assertEquals(SpecifierType.HCP, market.getSpecifierType());
+        assertEquals("-0.5", market.getSpecifierValue());
+        assertEquals(Map.of("hcp", "-0.5"), market.getSpecifiers());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParsedMarket("x", "1", Map.of("total", "1", "hcp", "2"), List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParsedMarket("x", "1", Map.of("goals", "1"), List.of()));
+    }
+}
@@ -0,0 +1,153 @@
+package sportbet.normalize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential tests for SelectionNameCleaner against the regex code it replaced
+ */
+class SelectionNameCleanerTest {
+
+    private static final Pattern NAME_FIELD = Pattern.compile("\"name\"\\s*:\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+
+    // Previous MarketConverter.cleanSelectionName
+    private static String legacyConverterClean(String name) {
+        String cleaned = name.toLowerCase().trim();
+        cleaned = cleaned.replaceAll("[+-]?\\d+(?:\\.\\d+)?", "").trim();
+        cleaned = cleaned.replaceAll("\\s+", " ").trim();
+        return cleaned;
+    }
+
+    // Previous MarketNormalizer.cleanSelectionName
+    private static String legacyNormalizerClean(String name, boolean removeNumbers, boolean trimWhitespace) {
+        if (removeNumbers) {
+            name = name.replaceAll("[+\\-]?\\d+(?:\\.\\d+)?", "");
+        }
+        if (trimWhitespace) {
+            name = name.replaceAll("\\s+", " ").trim();
+        }
+        return name;
+    }
+
+    // First match of the number patterns MarketNormalizer.extractNumber uses, or null
+    private static String legacyNumber(String name, boolean signed) {
+        Matcher m = Pattern.compile(signed ? "([+-]?\\d+(?:\\.\\d+)?)" : "(\\d+(?:\\.\\d+)?)").matcher(name);
+        return m.find() ? m.group(1) : null;
+    }
+
+    private static void assertSameAsLegacy(String name) {
+        assertEquals(legacyConverterClean(name), SelectionNameCleaner.clean(name), "converter: [" + name + "]");
+
+        SelectionToken token = new SelectionToken();
+        SelectionNameCleaner.tokenize(name, token);
+        assertEquals(legacyConverterClean(name), token.toString(), "token: [" + name + "]");
+        for (boolean signed : new boolean[] {true, false}) {
+            String number = legacyNumber(name, signed);
+            assertEquals(number, token.number(signed), "number " + signed + ": [" + name + "]");
+            assertEquals("0".equals(number), token.isZero(signed), "zero " + signed + ": [" + name + "]");
+        }
+        for (int flags = 0; flags < 4; flags++) {
+            boolean removeNumbers = (flags & 1) != 0;
+            boolean trimWhitespace = (flags & 2) != 0;
+            assertEquals(legacyNormalizerClean(name, removeNumbers, trimWhitespace),
+                SelectionNameCleaner.clean(name, false, removeNumbers, trimWhitespace),
+                "normalizer " + flags + ": [" + name + "]");
+        }
+    }
+
+    @Test
+    @DisplayName("Same result as the regex path for every name in input_files")
+    void clean_inputFiles_matchesLegacy() throws IOException {
+        // Arrange - raw text scan, so broken samples are covered as well
+        List<String> names = new ArrayList<>();
+        try (Stream<Path> files = Files.list(Paths.get("input_files"))) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher m = NAME_FIELD.matcher(Files.readString(file));
+                while (m.find()) {
+                    names.add(m.group(1));
+                }
+            }
+        }
+
+        // Act & Assert
+        assertFalse(names.isEmpty());
+        names.forEach(SelectionNameCleanerTest::assertSameAsLegacy);
+    }
+
+    @Test
+    @DisplayName("Same result as the regex path for random names")
+    void clean_randomNames_matchesLegacy() {
+        // Arrange
+        String alphabet = "aAbZIi +-.0123456789\t\n\u000B\f\r\u0001\u001F_éİ٣";
+        Random random = new Random(42);
+
+        // Act & Assert
+        for (int n = 0; n < 50_000; n++) {
+            int len = random.nextInt(16);
+            StringBuilder sb = new StringBuilder(len);
+            for (int i = 0; i < len; i++) {
+                // Mostly ASCII so the scan, not the fallback, is what gets exercised
+                int bound = random.nextInt(10) == 0 ? alphabet.length() : alphabet.length() - 3;
+                sb.append(alphabet.charAt(random.nextInt(bound)));
+            }
+            assertSameAsLegacy(sb.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Edge cases around signs, dots and whitespace")
+    void clean_edgeCases_matchesLegacy() {
+        String[] names = {
+            "", " ", "+", "-", "+-1", "1.", ".5", "1.2.3", "1..2", "a+b", "team a+1.5", "over2.5",
+            "  Team   A  ", "\tTeam\tB\t-0.5\n", "\u0001a\u0001", "a \u0001 b", "a 1 b", "O", "U 2.5",
+            "Over 0", "Team A 0", "Team A +0", "-0", "Team é -1.5", "0.0"
+        };
+        for (String name : names) {
+            assertSameAsLegacy(name);
+        }
+    }
+
+    @Test
+    @DisplayName("Tokens are resolved without building a String and can be reused")
+    void tokenize_reusedToken_resolvesAsCharSequence() {
+        // Arrange
+        SelectionToken token = new SelectionToken();
+
+        // Act
+        SelectionNameCleaner.tokenize("  Team A  +1.5 ", token);
+        String first = token.toString();
+        String firstNumber = token.number(true);
+        SelectionNameCleaner.tokenize("Under", token);
+
+        // Assert
+        assertEquals("team a", first);
+        assertEquals("+1.5", firstNumber);
+        assertEquals("under", token.toString());
+        assertEquals(5, token.length());
+        assertEquals('u', token.charAt(0));
+        assertFalse(token.hasNumber());
+        assertNull(token.number(false));
+    }
+
+    @Test
+    @DisplayName("Already clean names are returned without copying")
+    void clean_alreadyClean_returnsSameInstance() {
+        String name = "team a";
+        assertSame(name, SelectionNameCleaner.clean(name));
+    }
+}
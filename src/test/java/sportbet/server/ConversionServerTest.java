@@ -0,0 +1,139 @@
+package sportbet.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sportbet.core.ConverterOptions;
+import sportbet.core.MarketConverter;
+import sportbet.domain.UnmappedMarketNames;
+import sportbet.uid.UidCache;
+
+/**
+ * JUnit tests for ConversionServer and ConversionService
+ */
+class ConversionServerTest {
+
+    private static final Path SAMPLE = Paths.get("src/test/resources/samples/market_input_example.json");
+    private static final Path EXPECTED = Paths.get("output_files/market_input_example_output.json");
+
+    private ObjectMapper mapper;
+    private ConversionServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        ConversionService service = new ConversionService(mapper, new MarketConverter());
+        service.warmUp(10);
+        server = new ConversionServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), service);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> post(String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/convert"))
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("POST /convert returns the same markets as the file conversion")
+    void convert_sampleBatch_matchesCommittedOutput() throws Exception {
+        // Act
+        HttpResponse<String> response = post(Files.readString(SAMPLE));
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("X-Conversion-Micros").isPresent());
+        JsonNode json = mapper.readTree(response.body());
+        assertEquals(mapper.readTree(EXPECTED.toFile()), json.get("markets"));
+        assertEquals(0, json.get("errors").size());
+    }
+
+    @Test
+    @DisplayName("Unknown markets are reported with their index")
+    void convert_unknownMarket_reportedAsError() throws Exception {
+        // Act
+        HttpResponse<String> response = post(
+            "[{\"name\":\"corners total\",\"event_id\":\"1\",\"selections\":[]},"
+                + "{\"name\":\"BTTS\",\"event_id\":\"1\",\"selections\":[]},"
+                + "{\"name\":\"Both teams to score\",\"event_id\":\"1\",\"selections\":[{\"name\":\"yes\",\"odds\":1.8}]}]");
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        JsonNode json = mapper.readTree(response.body());
+        assertEquals(1, json.get("markets").size());
+        assertEquals(2, json.get("errors").size());
+        assertEquals(1, json.get("errors").get(1).get("index").asInt());
+        assertEquals("BTTS", json.get("errors").get(1).get("name").asText());
+    }
+
+    @Test
+    @DisplayName("Malformed or non-array bodies are rejected with 400")
+    void convert_badBody_badRequest() throws Exception {
+        assertEquals(400, post("{\"name\":\"Total\"}").statusCode());
+        assertEquals(400, post("[{\"name\":").statusCode());
+        assertEquals(400, post("").statusCode());
+    }
+
+    @Test
+    @DisplayName("GET /health reports counters")
+    void health_reportsCounters() throws Exception {
+        // Arrange
+        post(Files.readString(SAMPLE));
+
+        // Act
+        HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/health")).build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals("ok requests=1 markets=7\n", response.body());
+    }
+
+    @Test
+    @DisplayName("Warm-up leaves the shared UID cache and unmapped-name counts untouched")
+    void warmUp_sharedStatsStayEmpty() {
+        // Arrange
+        UidCache uidCache = new UidCache();
+        UnmappedMarketNames unmapped = new UnmappedMarketNames();
+        ConversionService service = new ConversionService(mapper, new MarketConverter(ConverterOptions.defaults()
+            .withUidCache(uidCache)
+            .withUnmappedMarketNames(unmapped)));
+
+        // Act
+        service.warmUp(3);
+
+        // Assert
+        assertEquals(0, uidCache.size());
+        assertEquals(0, uidCache.getMisses());
+        assertEquals(0, unmapped.size());
+        assertEquals(0, unmapped.getHits());
+    }
+}
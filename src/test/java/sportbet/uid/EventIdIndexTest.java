@@ -0,0 +1,40 @@
+package sportbet.uid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for EventIdIndex
+ */
+class EventIdIndexTest {
+
+    @Test
+    @DisplayName("Slots are dense, in first-seen order, and stable across growth")
+    void slotOf_manyEvents_denseSlots() {
+        // Arrange
+        EventIdIndex index = new EventIdIndex();
+
+        // Act - multiples of 1024 collide in the low bits without the hash spreading
+        for (long i = 0; i < 10_000; i++) {
+            assertEquals((int) i, index.slotOf(i * 1024));
+        }
+
+        // Assert
+        assertEquals(10_000, index.size());
+        assertEquals(8, index.slotOf(8 * 1024));
+        assertEquals(8, index.find(8 * 1024));
+        assertEquals(-1, index.find(8 * 1024 + 1));
+        assertEquals(9999L * 1024, index.eventId(9999));
+        assertEquals(10_000, index.size());
+    }
+
+    @Test
+    @DisplayName("Error for negative event IDs and slots out of range")
+    void slotOf_negative_throwsException() {
+        EventIdIndex index = new EventIdIndex();
+        assertThrows(IllegalArgumentException.class, () -> index.slotOf(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.eventId(0));
+    }
+}
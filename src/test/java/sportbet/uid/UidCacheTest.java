@@ -0,0 +1,88 @@
+package sportbet.uid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for UidCache
+ */
+class UidCacheTest {
+
+    @Test
+    @DisplayName("Repeated tuple returns the same UID instances")
+    void get_repeatedTuple_returnsSameInstances() {
+        // Arrange
+        UidCache cache = new UidCache(100);
+
+        // Act
+        UidCache.Entry first = cache.get("123456", "18", "2.5");
+        String selectionUid = first.selectionUid("12");
+        UidCache.Entry second = cache.get(new String("123456"), "18", "2.5");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("123456_18_2.5", second.getMarketUid());
+        assertSame(selectionUid, second.selectionUid("12"));
+        assertEquals("123456_18_2.5_12", selectionUid);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Market without specifier has a two-part UID")
+    void get_noSpecifier() {
+        UidCache cache = new UidCache(100);
+        assertEquals("123456_1", cache.get("123456", "1", null).getMarketUid());
+        assertNotSame(cache.get("123456", "1", null), cache.get("123456", "1", "0"));
+    }
+
+    @Test
+    @DisplayName("Least recently used tuples are evicted when full")
+    void get_overCapacity_evicts() {
+        // Arrange
+        UidCache cache = new UidCache(16);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            cache.get(String.valueOf(i), "1", null);
+        }
+
+        // Assert
+        assertTrue(cache.size() <= 16);
+        assertEquals(1000, cache.getMisses());
+        assertEquals(1000 - cache.size(), cache.getEvictions());
+    }
+
+    @Test
+    @DisplayName("Error when eventId is null")
+    void get_nullEventId_throwsException() {
+        UidCache cache = new UidCache(16);
+        assertThrows(NullPointerException.class, () -> cache.get(null, "1", null));
+    }
+
+    @Test
+    @DisplayName("Numeric event IDs are cached under their own key with the same UIDs")
+    void get_numericEventId_sameUids() {
+        // Arrange
+        UidCache cache = new UidCache(100);
+
+        // Act
+        UidCache.Entry first = cache.get(123456L, "18", "2.5");
+        UidCache.Entry second = cache.get(123456L, "18", "2.5");
+        UidCache.Entry byString = cache.get("123456", "18", "2.5");
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, byString);
+        assertEquals(byString.getMarketUid(), first.getMarketUid());
+        assertEquals("123456_18_2.5_12", first.selectionUid("12"));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertThrows(IllegalArgumentException.class, () -> cache.get(-1L, "18", null));
+    }
+}
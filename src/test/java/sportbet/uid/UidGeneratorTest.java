@@ -144,4 +144,31 @@ class UidGeneratorTest {
         assertNull(UidGenerator.extractSpecifierValue("123456_18"));
         assertEquals("2.5", UidGenerator.extractSpecifierValue("123456_18_2.5"));
     }
+
+    @Test
+    @DisplayName("Only canonical non-negative event IDs parse as numbers")
+    void parseEventId_canonicalDigitsOnly() {
+        assertEquals(123456L, UidGenerator.parseEventId("123456"));
+        assertEquals(0L, UidGenerator.parseEventId("0"));
+        assertEquals(999_999_999_999_999_999L, UidGenerator.parseEventId("999999999999999999"));
+        for (String eventId : new String[] {null, "", "007", "-5", "+7", " 12", "12a", "1.0", "\u0663",
+                                            "1000000000000000000"}) {
+            assertEquals(UidGenerator.NON_NUMERIC_EVENT_ID, UidGenerator.parseEventId(eventId), eventId);
+        }
+    }
+
+    @Test
+    @DisplayName("Numeric market UIDs equal the string-built ones")
+    void generateMarketUid_numeric_matchesString() {
+        for (String eventId : new String[] {"0", "7", "123456", "999999999999999999"}) {
+            for (String specifier : new String[] {null, " ", "2.5", "-1.25", "x".repeat(100)}) {
+                Map<String, String> specifiers = specifier == null ? Map.of() : Map.of("total", specifier);
+                String expected = UidGenerator.generateMarketUid(
+                    new UidGenerator.MarketUidParams(eventId, "18", specifiers));
+                assertEquals(expected,
+                    UidGenerator.generateMarketUid(UidGenerator.parseEventId(eventId), "18", specifier));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> UidGenerator.generateMarketUid(-1, "18", null));
+    }
 }